@@ -0,0 +1,167 @@
+package com.example.dailyschedule.benchmark;
+
+import com.example.dailyschedule.common.cache.SingleFlight;
+import com.example.dailyschedule.common.datasource.ReadYourWritesTracker;
+import com.example.dailyschedule.common.metrics.OperationMetrics;
+import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleDayCountRepository;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 in-memory H2 DB
+ * 회원 MEMBER_COUNT 명, 회원당 SCHEDULES_PER_MEMBER 개의 스케줄을 최근 DAYS 일에 나눠서 저장하고, 10% 는 삭제 표시한다.
+ * seed가 고정이라 실행할 때마다 같은 데이터로 비교할 수 있다.
+ * createPooled 는 Hikari pool 과 statement 마다 latency 를 넣은 DataSource 를 사용한다.
+ * (-Dbenchmark.jdbc.url=jdbc:mysql://... 을 지정하면 H2 대신 해당 DB 에 테이블을 다시 만들어서 사용)
+ */
+public class BenchmarkDatabase {
+
+    public static final int MEMBER_COUNT = 200;
+    public static final int SCHEDULES_PER_MEMBER = 50;
+    public static final int DAYS = 90;
+    public static final LocalDate TODAY = LocalDate.of(2024, 10, 31);
+    public static final String[] AUTHORS = {"kim", "lee", "park", "choi", "jung", "kang", "cho", "yoon"};
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduleRepositoryImpl scheduleRepository;
+    private final boolean inMemory;
+    private final HikariDataSource pool;
+
+    private BenchmarkDatabase(JdbcTemplate jdbcTemplate, boolean inMemory, HikariDataSource pool) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.inMemory = inMemory;
+        this.pool = pool;
+        // 날짜별 개수 집계는 측정 대상이 아니고 MySQL 전용 SQL을 사용하기 때문에 seed 할 때는 생략
+        ScheduleDayCountRepository noDayCount = new ScheduleDayCountRepository(jdbcTemplate) {
+            @Override
+            public void incrementFor(List<Long> scheduleIds) {
+            }
+        };
+        // 벤치마크에서는 metric 을 내보내지 않기 때문에 메모리 registry 사용, 조회 합치기는 측정 대상이 아니라서 끔
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        this.scheduleRepository = new ScheduleRepositoryImpl(jdbcTemplate, noDayCount, new OperationMetrics(registry),
+                new SingleFlight(registry, new StaticListableBeanFactory().getBeanProvider(ReadYourWritesTracker.class), false));
+    }
+
+    public static BenchmarkDatabase create() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(inMemoryUrl(), "sa", "");
+
+        new ResourceDatabasePopulator(new ClassPathResource("benchmark-schema.sql")).execute(dataSource);
+
+        BenchmarkDatabase database = new BenchmarkDatabase(new JdbcTemplate(dataSource), true, null);
+        database.seed();
+        return database;
+    }
+
+    /**
+     * 최대 poolSize 개의 connection 을 가진 Hikari pool, 조회는 statement 마다 latencyMillis 만큼 connection 을 잡고 기다림
+     * seed 는 latency 없이 pool 로 바로 저장한다.
+     */
+    public static BenchmarkDatabase createPooled(int poolSize, long latencyMillis) {
+        String externalUrl = System.getProperty("benchmark.jdbc.url");
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("benchmark");
+        config.setJdbcUrl(externalUrl != null ? externalUrl : inMemoryUrl());
+        config.setUsername(System.getProperty("benchmark.jdbc.username", "sa"));
+        config.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        HikariDataSource pool = new HikariDataSource(config);
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("benchmark-schema.sql"));
+        if (externalUrl != null) {
+            // 이전 실행의 테이블을 지우고 다시 만듦
+            new JdbcTemplate(pool).execute("DROP TABLE IF EXISTS schedule");
+            new JdbcTemplate(pool).execute("DROP TABLE IF EXISTS member");
+        }
+        populator.execute(pool);
+        new BenchmarkDatabase(new JdbcTemplate(pool), externalUrl == null, null).seed();
+
+        DataSource delayed = new StatementLatencyDataSource(pool, latencyMillis);
+        return new BenchmarkDatabase(new JdbcTemplate(delayed), externalUrl == null, pool);
+    }
+
+    // 벤치마크 마다 다른 DB를 사용하도록 이름을 랜덤으로 생성
+    private static String inMemoryUrl() {
+        return "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public ScheduleRepositoryImpl getScheduleRepository() {
+        return scheduleRepository;
+    }
+
+    public void shutdown() {
+        if (inMemory) {
+            jdbcTemplate.execute("SHUTDOWN");
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+
+        List<Object[]> members = new ArrayList<>(MEMBER_COUNT);
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            members.add(new Object[]{"user" + i, "password" + i, "name" + i, "user" + i + "@example.com", Date.valueOf(TODAY)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (user_id, password, name, email, updated_at) VALUES (?, ?, ?, ?, ?)", members);
+
+        List<Schedule> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            for (int i = 0; i < SCHEDULES_PER_MEMBER; i++) {
+                chunk.add(randomSchedule(random, memberId, i));
+                if (chunk.size() == INSERT_CHUNK_SIZE) {
+                    scheduleRepository.createSchedules(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            scheduleRepository.createSchedules(chunk);
+        }
+
+        // INSERT 는 deleted_at 을 쓰지 않기 때문에 10% 는 따로 삭제 표시 (조회의 deleted_at IS NULL 조건이 실제로 걸러내도록)
+        jdbcTemplate.update("UPDATE schedule SET deleted_at = updated_at WHERE MOD(id, 10) = 0");
+    }
+
+    private static Schedule randomSchedule(Random random, long memberId, int sequence) {
+        LocalDate createdAt = TODAY.minusDays(random.nextInt(DAYS));
+        LocalDate updatedAt = createdAt.plusDays(random.nextInt((int) (TODAY.toEpochDay() - createdAt.toEpochDay()) + 1));
+
+        return Schedule.builder()
+                .title("회의 " + memberId + "-" + sequence)
+                .author(AUTHORS[random.nextInt(AUTHORS.length)])
+                .password("pw" + sequence)
+                .description("주간 업무 회의 및 일정 공유. 참석자 확인 후 회의록 작성 " + sequence)
+                .createdAt(Date.valueOf(createdAt))
+                .updatedAt(Date.valueOf(updatedAt))
+                .member(Member.builder().id(memberId).build())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.dailyschedule.benchmark;
+
+import com.example.dailyschedule.member.converter.MemberConverter;
+import com.example.dailyschedule.member.dto.MemberDto;
+import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.schedule.converter.ScheduleConverter;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScheduleConverter / MemberConverter 변환 벤치마크
+ * 목록 조회 한 페이지(recordSize 만큼)를 변환하는 비용을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private MemberConverter memberConverter;
+    private ScheduleConverter scheduleConverter;
+
+    private List<Schedule> schedules;
+    private List<Member> members;
+    private List<MemberDto> memberDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        memberConverter = new MemberConverter();
+        scheduleConverter = new ScheduleConverter(memberConverter);
+
+        // 실제 조회 결과를 변환 대상으로 사용
+        BenchmarkDatabase database = BenchmarkDatabase.create();
+        schedules = database.getJdbcTemplate().query(
+                "SELECT s.*, m.id AS member_id, m.user_id AS user_id, m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at"
+                        + " FROM schedule s LEFT JOIN member m ON s.member_id = m.id ORDER BY s.id LIMIT " + PAGE_SIZE,
+                new ScheduleRowMapper());
+        database.shutdown();
+
+        members = schedules.stream().map(Schedule::getMember).toList();
+        memberDtos = members.stream().map(memberConverter::toDto).toList();
+    }
+
+    @Benchmark
+    public void scheduleToDto(Blackhole blackhole) {
+        for (Schedule schedule : schedules) {
+            blackhole.consume(scheduleConverter.toDto(schedule));
+        }
+    }
+
+    @Benchmark
+    public List<ScheduleDto> schedulePageToDto() {
+        // service 에서 사용하는 방식 (Page.map 과 같은 stream 변환)
+        return schedules.stream().map(scheduleConverter::toDto).toList();
+    }
+
+    @Benchmark
+    public void memberToDto(Blackhole blackhole) {
+        for (Member member : members) {
+            blackhole.consume(memberConverter.toDto(member));
+        }
+    }
+
+    @Benchmark
+    public void memberToEntity(Blackhole blackhole) {
+        for (MemberDto memberDto : memberDtos) {
+            blackhole.consume(memberConverter.toEntity(memberDto));
+        }
+    }
+}
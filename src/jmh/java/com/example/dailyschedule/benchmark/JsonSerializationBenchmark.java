@@ -0,0 +1,118 @@
+package com.example.dailyschedule.benchmark;
+
+import com.example.dailyschedule.common.json.JsonConfig;
+import com.example.dailyschedule.member.dto.MemberDto;
+import com.example.dailyschedule.schedule.dto.ListResponseDto;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 JSON 직렬화 벤치마크
+ * 기존 방식 (PageImpl + bean 직렬화) 과 ListResponseDto + 직접 작성한 serializer 를 비교
+ * 응답 크기는 ResponseBytes 보조 counter 로 같이 보고한다. (bytes / ops = 응답 한건의 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper leanMapper;
+
+    private Page<ScheduleDto> page;
+    private ListResponseDto<ScheduleDto> envelope;
+
+    // 직렬화한 byte 수, ops 와 같은 단위 (bytes/ms) 로 보고됨
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ResponseBytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Spring Boot 기본 설정과 같게 날짜는 문자열로
+        beanMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        leanMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(JsonConfig.dtoSerializers());
+
+        List<ScheduleDto> schedules = new ArrayList<>(PAGE_SIZE);
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            MemberDto member = MemberDto.builder()
+                    .id(i % 10 + 1)
+                    .userId("user" + i % 10)
+                    .password("member-password")
+                    .name("name" + i % 10)
+                    .email("user" + i % 10 + "@test.com")
+                    .updatedAt(Date.valueOf("2024-10-01"))
+                    .build();
+            schedules.add(ScheduleDto.builder()
+                    .id(i)
+                    .title("title " + i)
+                    .author("author " + i % 10)
+                    .password("password")
+                    .description("description of schedule " + i)
+                    .createdAt(Date.valueOf("2024-10-01"))
+                    .updatedAt(Date.valueOf("2024-10-02"))
+                    .memberDto(member)
+                    .build());
+        }
+
+        SearchDto searchDto = new SearchDto();
+        page = new PageImpl<>(schedules, PageRequest.of(0, PAGE_SIZE), 10_000);
+        envelope = ListResponseDto.of(page, searchDto);
+    }
+
+    @Benchmark
+    public byte[] pageImplWithBeanSerializer(ResponseBytes responseBytes) throws Exception {
+        return count(responseBytes, beanMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] envelopeWithBeanSerializer(ResponseBytes responseBytes) throws Exception {
+        return count(responseBytes, beanMapper.writeValueAsBytes(envelope));
+    }
+
+    @Benchmark
+    public byte[] envelopeWithDtoSerializer(ResponseBytes responseBytes) throws Exception {
+        return count(responseBytes, leanMapper.writeValueAsBytes(envelope));
+    }
+
+    private static byte[] count(ResponseBytes responseBytes, byte[] json) {
+        responseBytes.bytes += json.length;
+        return json;
+    }
+}
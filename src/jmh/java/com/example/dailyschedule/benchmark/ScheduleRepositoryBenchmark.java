@@ -0,0 +1,109 @@
+package com.example.dailyschedule.benchmark;
+
+import com.example.dailyschedule.schedule.dto.CountMode;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import com.example.dailyschedule.schedule.repository.ScheduleRowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 경로 벤치마크 (H2 in-memory DB)
+ * - rowMapper: 같은 ResultSet 을 ScheduleRowMapper 로 매핑하는 비용
+ * - findSchedulesByUpdatedDateAndAuthor: 동적 SQL 생성 + COUNT + 페이지 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleRepositoryBenchmark {
+
+    private static final String SELECT_PAGE = """
+            SELECT s.id, s.title, s.author, s.description, s.created_at, s.updated_at, s.deleted_at,
+                   m.id AS member_id, m.user_id AS user_id, m.name AS member_name,
+                   m.email AS member_email, m.updated_at AS member_updated_at
+              FROM schedule s LEFT JOIN member m ON s.member_id = m.id
+             ORDER BY s.updated_at DESC, s.id DESC LIMIT ?
+            """;
+
+    @Param({"10", "100"})
+    private int recordSize;
+
+    private BenchmarkDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ScheduleRepositoryImpl scheduleRepository;
+
+    private Date updatedAt;
+    private String author;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        jdbcTemplate = database.getJdbcTemplate();
+        scheduleRepository = database.getScheduleRepository();
+
+        updatedAt = Date.valueOf(BenchmarkDatabase.TODAY.minusDays(7));
+        author = BenchmarkDatabase.AUTHORS[0];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Schedule> rowMapper() {
+        return jdbcTemplate.query(SELECT_PAGE, new ScheduleRowMapper(), recordSize);
+    }
+
+    @Benchmark
+    public Page<Schedule> findByUpdatedDateAndAuthor() {
+        return scheduleRepository.findSchedulesByUpdatedDateAndAuthor(updatedAt, author, searchDto(CountMode.EXACT));
+    }
+
+    @Benchmark
+    public Page<Schedule> findByAuthorOnly() {
+        // 날짜 조건이 없는 동적 SQL (author 조건만)
+        return scheduleRepository.findSchedulesByUpdatedDateAndAuthor(null, author, searchDto(CountMode.EXACT));
+    }
+
+    @Benchmark
+    public Slice<Schedule> findByUpdatedDateAndAuthorSlice() {
+        return scheduleRepository.findSchedulesByUpdatedDateAndAuthorSlice(updatedAt, author, searchDto(CountMode.NONE));
+    }
+
+    @Benchmark
+    public Page<Schedule> findAllOrderByUpdatedDateDesc() {
+        return scheduleRepository.findAllOrderByUpdatedDateDesc(searchDto(CountMode.EXACT));
+    }
+
+    private SearchDto searchDto(CountMode countMode) {
+        return SearchDto.builder()
+                .page(1)
+                .pageSize(recordSize)
+                .recordSize(recordSize)
+                .countMode(countMode)
+                .build();
+    }
+}
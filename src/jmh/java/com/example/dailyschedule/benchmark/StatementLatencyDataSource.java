@@ -0,0 +1,81 @@
+package com.example.dailyschedule.benchmark;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * statement 실행(execute*) 마다 latency 만큼 기다린 뒤 실행하는 DataSource (벤치마크 전용)
+ * in-memory H2 는 네트워크 왕복이 없어서 JDBC 호출이 CPU 작업만 하기 때문에, connection 을 잡은 채로 기다리게 해서
+ * 실제 DB 처럼 thread 가 JdbcTemplate 안에서 block 되는 상황을 만든다. (QueryCountingDataSource 와 같은 방식으로 감쌈)
+ */
+class StatementLatencyDataSource extends DelegatingDataSource {
+
+    private final long latencyMillis;
+
+    StatementLatencyDataSource(DataSource targetDataSource, long latencyMillis) {
+        super(targetDataSource);
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementLatencyDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, latencyMillis));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, long latencyMillis) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementLatencyDataSource.invoke(target, method, args);
+            // createStatement, prepareStatement, prepareCall 결과만 감싼다
+            if (result instanceof Statement statement && !method.getName().equals("unwrap")) {
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(StatementLatencyDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(statement, latencyMillis));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, long latencyMillis) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("execute") && latencyMillis > 0) {
+                // DB 왕복 대기 (virtual thread 는 sleep 동안 carrier thread 를 반납)
+                Thread.sleep(latencyMillis);
+            }
+            return StatementLatencyDataSource.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.dailyschedule.benchmark;
+
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * platform thread pool 과 virtual thread 의 동시 목록 조회 처리량 비교
+ * 한번에 REQUESTS 개의 페이지 조회를 실행하고 모두 끝날 때까지 기다린다. (score 는 조회 한 건 기준)
+ * platform 은 Tomcat 기본 최대 thread 수(200)와 같은 크기의 pool
+ * Hikari pool (poolSize) 을 거치고 statement 마다 latencyMillis 만큼 connection 을 잡고 기다리기 때문에
+ * thread 가 JdbcTemplate 안에서 block 되는 시간이 처리량을 결정한다. (pool 이 thread 수보다 작으면 두 방식 모두 pool 에서 막힘)
+ * MySQL driver 의 pinning 은 -Dbenchmark.jdbc.url=jdbc:mysql://... 로 실제 MySQL 에 실행하면
+ * -Djdk.tracePinnedThreads 로 stack trace 가 출력된다. (MySQL 의 max_connections 에 맞게 -p poolSize=... 지정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class VirtualThreadBenchmark {
+
+    private static final int REQUESTS = 500;
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"50", "400"})
+    private int poolSize;
+
+    @Param({"5"})
+    private long latencyMillis;
+
+    private BenchmarkDatabase database;
+    private ScheduleRepositoryImpl scheduleRepository;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.createPooled(poolSize, latencyMillis);
+        scheduleRepository = database.getScheduleRepository();
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int concurrentPageQueries() throws Exception {
+        List<Future<Page<Schedule>>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> scheduleRepository.findAllOrderByUpdatedDateDesc(new SearchDto())));
+        }
+
+        int rows = 0;
+        for (Future<Page<Schedule>> future : futures) {
+            rows += future.get().getNumberOfElements();
+        }
+        return rows;
+    }
+}
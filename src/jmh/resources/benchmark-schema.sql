@@ -0,0 +1,44 @@
+-- 벤치마크용 H2(MySQL 모드) 스키마, db/migration 의 V1, V2, V5 와 같은 구조 (V4 modified_at 은 조회하지 않아서 생략)
+create table member (
+    id BIGINT not null auto_increment,
+    user_id varchar(25) not null,
+    password varchar(255) not null,
+    name varchar(25) not null,
+    email varchar(50) not null,
+    updated_at DATETIME null,
+    deleted_at DATETIME null,
+    primary key (id)
+);
+
+create table schedule (
+    id BIGINT not null auto_increment,
+    title varchar(50) not null,
+    description TEXT,
+    created_at DATETIME not null,
+    updated_at DATETIME,
+    deleted_at DATETIME,
+    author varchar(50),
+    password varchar(25),
+    member_id BIGINT,
+    recurrence_rule varchar(255),
+    recurrence_exdates TEXT,
+    recurrence_until DATE,
+    start_at DATETIME(3),
+    end_at DATETIME(3),
+    recurrence_frequency varchar(7),
+    recurrence_interval INT,
+    recurrence_period BIGINT,
+    recurrence_weekdays TINYINT,
+    recurrence_month TINYINT,
+    recurrence_month_day TINYINT,
+    primary key (id),
+    constraint fk_member foreign key (member_id) references member (id) on delete cascade
+);
+
+create index idx_schedule_live_updated_at on schedule (deleted_at, updated_at, id);
+create index idx_schedule_author_live_updated_at on schedule (author, deleted_at, updated_at, id);
+create index idx_schedule_member_live_updated_at on schedule (member_id, deleted_at, updated_at, id);
+create index idx_schedule_created_at on schedule (created_at, deleted_at);
+create index idx_schedule_deleted_at on schedule (deleted_at);
+create index idx_schedule_live_recurrence on schedule (deleted_at, recurrence_until, created_at, recurrence_frequency,
+    recurrence_interval, recurrence_period, recurrence_weekdays, recurrence_month, recurrence_month_day);
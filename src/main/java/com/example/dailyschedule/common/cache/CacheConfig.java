@@ -0,0 +1,31 @@
+package com.example.dailyschedule.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스케줄, 회원 단건 조회용 in-process 캐시 (Caffeine)
+ * 크기/만료 시간은 cache.*.spec 으로 설정하고, 통계는 /caches/stats 에서 확인
+ * 트랜잭션 안에서의 put/evict 는 commit 이후에 반영된다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.schedules.spec:maximumSize=10000,expireAfterWrite=60s}") String scheduleSpec,
+            @Value("${cache.members.spec:maximumSize=10000,expireAfterWrite=60s}") String memberSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(CacheNames.SCHEDULES, Caffeine.from(scheduleSpec).recordStats().build());
+        cacheManager.registerCustomCache(CacheNames.MEMBERS, Caffeine.from(memberSpec).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.dailyschedule.common.cache;
+
+public final class CacheNames {
+
+    public static final String SCHEDULES = "schedules"; // key : schedule id
+    public static final String MEMBERS = "members";     // key : member id
+
+    private CacheNames() {
+    }
+}
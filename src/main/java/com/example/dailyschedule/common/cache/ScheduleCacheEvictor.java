@@ -0,0 +1,55 @@
+package com.example.dailyschedule.common.cache;
+
+import com.example.dailyschedule.common.transaction.TransactionHooks;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 스케줄 캐시에는 회원 정보가 같이 들어있기 때문에
+ * 회원이 수정/삭제되면 해당 회원의 스케줄만 골라서 캐시에서 제거
+ */
+@Component
+public class ScheduleCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public ScheduleCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evictSchedulesOfMember(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+
+        // 다른 캐시 evict 와 마찬가지로 commit 이후에 반영
+        TransactionHooks.afterCommit(() -> removeSchedulesOfMember(memberId));
+    }
+
+    // 여러 스케줄 evict (트랜잭션 안에서는 TransactionAwareCacheManagerProxy 가 commit 이후에 반영)
+    public void evictSchedules(Collection<Long> scheduleIds) {
+        Cache cache = cacheManager.getCache(CacheNames.SCHEDULES);
+        if (cache == null) {
+            return;
+        }
+        scheduleIds.forEach(cache::evict);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeSchedulesOfMember(Long memberId) {
+        Cache cache = cacheManager.getCache(CacheNames.SCHEDULES);
+        if (cache == null) {
+            return;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        nativeCache.asMap().values().removeIf(value -> value instanceof Schedule schedule
+                && schedule.getMember() != null
+                && memberId.equals(schedule.getMember().getId()));
+    }
+}
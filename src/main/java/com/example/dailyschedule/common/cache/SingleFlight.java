@@ -0,0 +1,136 @@
+package com.example.dailyschedule.common.cache;
+
+import com.example.dailyschedule.common.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 의 동시 조회를 쿼리 한번으로 합치기 (single-flight)
+ * 처음 들어온 호출(leader)만 쿼리를 실행하고, 실행 중에 들어온 같은 key 호출은 leader 의 결과(예외 포함)를 같이 받는다.
+ * 쿼리 실행 동안 lock 을 잡지 않고 in-flight 표시(CompletableFuture)만 map 에 두고, 끝나면 바로 제거한다. (결과 저장은 캐시가 담당)
+ * 쓰기 트랜잭션 안이거나 primary 에서 읽어야 하는 호출은 자기 쓰기를 봐야 하기 때문에 합치지 않는다.
+ */
+@Component
+public class SingleFlight {
+
+    public static final String CALLS = "schedule.singleflight.calls";
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FlightCounters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final boolean enabled;
+
+    public SingleFlight(MeterRegistry registry,
+                        ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                        @Value("${cache.single-flight.enabled:true}") boolean enabled) {
+        this.registry = registry;
+        this.readYourWritesTracker = readYourWritesTracker.getIfAvailable();
+        this.enabled = enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> query) {
+        if (!enabled || key == null || mustQueryAlone()) {
+            return query.get();
+        }
+
+        FlightCounters flightCounters = counters.computeIfAbsent(name, this::flightCounters);
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, flight);
+
+        // 이미 실행 중인 조회가 있으면 그 결과를 기다림
+        if (running != null) {
+            flightCounters.coalesced().increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        flightCounters.leader().increment();
+        try {
+            T result = query.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 이후 호출은 새로 조회 (실행 중인 조회와 같은 future 일 때만 제거)
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 실행 중인 조회를 더 이상 공유하지 않도록 제거
+     * 쓰기 이후에 들어온 호출이 쓰기 이전에 시작한 조회 결과를 받지 않게 한다. (이미 기다리는 호출은 그대로 받음)
+     * 캐시 evict 와 마찬가지로 트랜잭션 안에서는 commit 이후에 제거
+     */
+    public void forget(String name, Object key) {
+        if (key == null) {
+            return;
+        }
+
+        FlightKey flightKey = new FlightKey(name, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inFlight.remove(flightKey);
+                }
+            });
+        } else {
+            inFlight.remove(flightKey);
+        }
+    }
+
+    private boolean mustQueryAlone() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return true;
+        }
+        return readYourWritesTracker != null && readYourWritesTracker.mustReadFromPrimary();
+    }
+
+    private FlightCounters flightCounters(String name) {
+        Counter leader = Counter.builder(CALLS)
+                .tag("name", name)
+                .tag("result", "leader")
+                .register(registry);
+        Counter coalesced = Counter.builder(CALLS)
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(registry);
+        return new FlightCounters(leader, coalesced);
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private record FlightCounters(Counter leader, Counter coalesced) {
+    }
+}
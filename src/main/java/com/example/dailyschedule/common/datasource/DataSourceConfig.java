@@ -0,0 +1,81 @@
+package com.example.dailyschedule.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary / replica 읽기-쓰기 분리 DataSource
+ * datasource.routing.enabled=true 일 때만 사용하고, 아니면 spring.datasource 하나만 사용 (기본값)
+ * primary 접속 정보는 spring.datasource.*, replica 접속 정보는 datasource.replica.* 를 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.primary.maximum-pool-size:10}") int maximumPoolSize) {
+        return createPool("primary-pool", properties.getDriverClassName(), properties.getUrl(),
+                properties.getUsername(), properties.getPassword(), maximumPoolSize, false);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password,
+                                              @Value("${datasource.replica.maximum-pool-size:30}") int maximumPoolSize) {
+        return createPool("replica-pool", properties.getDriverClassName(), url, username, password, maximumPoolSize, true);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-seconds:5}") long windowSeconds,
+            @Value("${datasource.routing.read-your-writes-max-members:100000}") long maximumMembers) {
+        return new ReadYourWritesTracker(Duration.ofSeconds(windowSeconds), maximumMembers);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않았기 때문에
+        // 실제 statement를 실행할 때 connection을 가져오도록 lazy proxy로 감쌈
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        return proxy;
+    }
+
+    private static HikariDataSource createPool(String poolName, String driverClassName, String url, String username,
+                                               String password, int maximumPoolSize, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setDriverClassName(driverClassName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
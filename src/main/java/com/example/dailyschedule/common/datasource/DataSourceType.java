@@ -0,0 +1,6 @@
+package com.example.dailyschedule.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY, // 쓰기 + 읽기
+    REPLICA  // readOnly 트랜잭션 읽기 전용
+}
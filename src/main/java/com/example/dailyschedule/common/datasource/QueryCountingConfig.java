@@ -0,0 +1,34 @@
+package com.example.dailyschedule.common.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 사용하는 dataSource bean 을 QueryCountingDataSource 로 감싼다.
+ * (routing 을 사용하면 routing proxy 를, 아니면 spring.datasource pool 을 감싸고, pool bean 자체는 그대로 둔다)
+ * datasource.query-count.enabled=false 이면 감싸지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
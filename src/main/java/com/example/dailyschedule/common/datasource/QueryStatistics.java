@@ -0,0 +1,64 @@
+package com.example.dailyschedule.common.datasource;
+
+/**
+ * 현재 thread 에서 실행된 SQL statement 개수와 DB 시간 (QueryCountingDataSource 가 기록)
+ * 요청 단위(QueryCountFilter) 또는 테스트의 service 호출 단위로 start() ~ close() 사이만 기록한다.
+ * scope 가 중첩되면 안쪽에서 기록한 값은 바깥 scope 에도 더해진다.
+ * 다른 thread 에서 대신 실행한 statement 는 자동으로 기록되지 않기 때문에 실행한 쪽이 결과와 같이 넘겨주고 add() 로 더한다.
+ */
+public final class QueryStatistics implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final QueryStatistics parent;
+    private int statementCount;
+    private long elapsedNanos;
+    private boolean closed;
+
+    private QueryStatistics(QueryStatistics parent) {
+        this.parent = parent;
+    }
+
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    //statement 1회 실행 (scope 밖이면 무시)
+    static void record(long elapsedNanos) {
+        for (QueryStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.parent) {
+            statistics.statementCount++;
+            statistics.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    //다른 thread 에서 현재 요청 대신 실행한 statement 를 현재 scope 에 더함 (ScheduleUpdateBatcher)
+    public static void add(int statementCount, long elapsedNanos) {
+        for (QueryStatistics statistics = CURRENT.get(); statistics != null; statistics = statistics.parent) {
+            statistics.statementCount += statementCount;
+            statistics.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
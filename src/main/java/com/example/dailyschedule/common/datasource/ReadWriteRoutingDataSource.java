@@ -0,0 +1,46 @@
+package com.example.dailyschedule.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource
+ * 트랜잭션의 readOnly 여부는 connection을 실제로 사용할 때 정해지기 때문에
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 한다. (DataSourceConfig 참고)
+ * 쓰기 기록(read-your-writes)은 쓰기 트랜잭션에서만 남기고, 트랜잭션 없이 사용하는 connection은
+ * 읽기인지 쓰기인지 알 수 없기 때문에 primary로 보내기만 한다. (트랜잭션 없이 쓰는 쪽에서 직접 기록)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 최근에 쓰기를 한 회원(요청)은 replica 지연 때문에 primary에서 읽음
+            return readYourWritesTracker.mustReadFromPrimary() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            recordWriteAfterCommit();
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    // 쓰기 트랜잭션은 commit 이후에 기록
+    private void recordWriteAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dailyschedule.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * read-your-writes 보장
+ * 회원이 쓰기를 하면 window 동안 그 회원의 읽기는 primary에서 처리한다.
+ * 회원은 X-Member-Id 헤더 또는 memberId path 변수로 구분하고,
+ * 회원을 알 수 없는 요청도 같은 요청 안에서 쓰기 이후의 읽기는 primary에서 처리한다.
+ */
+public class ReadYourWritesTracker {
+
+    public static final String MEMBER_HEADER = "X-Member-Id";
+    private static final String MEMBER_PATH_VARIABLE = "memberId";
+    private static final String WROTE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+
+    // 회원 key -> 마지막 쓰기 (window가 지나면 자동으로 제거)
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void recordWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+
+        attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        String memberKey = currentMemberKey(attributes);
+        if (memberKey != null) {
+            recentWriters.put(memberKey, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        if (attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        String memberKey = currentMemberKey(attributes);
+        return memberKey != null && recentWriters.getIfPresent(memberKey) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String currentMemberKey(RequestAttributes attributes) {
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        String header = request.getHeader(MEMBER_HEADER);
+        if (header != null && !header.isBlank()) {
+            return header.trim();
+        }
+
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return pathVariables != null ? pathVariables.get(MEMBER_PATH_VARIABLE) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dailyschedule.common.json;
+
+import com.example.dailyschedule.member.dto.MemberDto;
+import com.example.dailyschedule.member.dto.MemberDtoSerializer;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.dto.ScheduleDtoSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 DTO 직렬화 설정
+ * Module bean 은 Spring Boot 가 기본 ObjectMapper 에 등록한다. (요청 body 역직렬화는 기존 방식 그대로)
+ */
+@Configuration
+public class JsonConfig {
+
+    @Bean
+    public Module dtoSerializerModule() {
+        return dtoSerializers();
+    }
+
+    // 벤치마크처럼 Spring 없이 ObjectMapper 를 만들 때도 같은 설정을 쓰기 위해 분리
+    public static SimpleModule dtoSerializers() {
+        MemberDtoSerializer memberDtoSerializer = new MemberDtoSerializer();
+        SimpleModule module = new SimpleModule("dto-serializers");
+        module.addSerializer(MemberDto.class, memberDtoSerializer);
+        module.addSerializer(ScheduleDto.class, new ScheduleDtoSerializer(memberDtoSerializer));
+        return module;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dailyschedule.common.memo;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 조회 결과 memo
+ * 한 HTTP 요청 안에서 같은 key의 조회는 한번만 실행하고, 이후에는 저장된 결과를 재사용한다.
+ * 요청 범위 밖(테스트, 배치 등)에서는 memo 없이 바로 조회한다.
+ */
+@Component
+public class RequestQueryMemo {
+
+    private static final String ATTRIBUTE_NAME = RequestQueryMemo.class.getName();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> query) {
+        Map<String, Object> memo = currentMemo();
+        if (memo == null) {
+            return query.get();
+        }
+
+        // null 결과도 저장해서 "없음" 확인도 다시 하지 않도록 containsKey로 확인
+        if (memo.containsKey(key)) {
+            return (T) memo.get(key);
+        }
+        T result = query.get();
+        memo.put(key, result);
+        return result;
+    }
+
+    // 데이터가 바뀌는 경우 이후 조회가 이전 결과를 보지 않도록 memo 비우기
+    public void clear() {
+        Map<String, Object> memo = currentMemo();
+        if (memo != null) {
+            memo.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE_NAME, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.dailyschedule.common.metrics;
+
+import com.example.dailyschedule.schedule.dto.CountMode;
+import com.example.dailyschedule.schedule.dto.CursorPageDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * service / repository 실행 시간, 조회 row 수, COUNT 쿼리 시간 기록
+ * 태그 조합마다 Meter 를 한번만 만들어서 재사용하기 때문에 호출마다 registry 조회나 builder 생성이 없다.
+ * histogram 은 Prometheus 에서 분위수를 계산할 수 있도록 bucket 만 내보낸다. (client 측 percentile 계산 없음)
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String OPERATION_TIMER = "schedule.operation";
+    public static final String OPERATION_ROWS = "schedule.operation.rows";
+    public static final String COUNT_TIMER = "schedule.query.count";
+    public static final String REQUEST_STATEMENTS = "schedule.request.statements";
+    public static final String REQUEST_DB_TIME = "schedule.request.db.time";
+
+    private static final String NO_ENDPOINT = "none";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<OperationKey, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<OperationKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> countTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RequestMeters> requestMeters = new ConcurrentHashMap<>();
+
+    public OperationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    //service / repository 메서드 1회 실행
+    public void recordOperation(String layer, String operation, String shape, boolean success, long elapsedNanos, Object result) {
+        String endpoint = currentEndpoint();
+        OperationKey key = new OperationKey(layer, operation, endpoint, shape, success ? "success" : "error");
+        operationTimers.computeIfAbsent(key, this::operationTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (success) {
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                OperationKey rowKey = new OperationKey(layer, operation, endpoint, shape, "");
+                rowSummaries.computeIfAbsent(rowKey, this::rowSummary).record(rows);
+            }
+        }
+    }
+
+    //COUNT 쿼리만 따로 (페이지 조회 시간에서 COUNT 비중을 보기 위해)
+    public void recordCount(CountMode countMode, long elapsedNanos) {
+        String endpoint = currentEndpoint();
+        String key = endpoint + '|' + countMode;
+        countTimers.computeIfAbsent(key, k -> Timer.builder(COUNT_TIMER)
+                        .tag("endpoint", endpoint)
+                        .tag("count_mode", countMode.name().toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    //HTTP 요청 1건에서 실행한 statement 개수와 DB 시간 (endpoint 는 URL pattern)
+    public void recordRequestQueries(String endpoint, int statementCount, long elapsedNanos) {
+        String tag = endpoint != null ? endpoint : NO_ENDPOINT;
+        RequestMeters meters = requestMeters.computeIfAbsent(tag, this::requestMeters);
+        meters.statements().record(statementCount);
+        meters.dbTime().record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private RequestMeters requestMeters(String endpoint) {
+        DistributionSummary statements = DistributionSummary.builder(REQUEST_STATEMENTS)
+                .baseUnit("statements")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(100.0)
+                .register(registry);
+        Timer dbTime = Timer.builder(REQUEST_DB_TIME)
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        return new RequestMeters(statements, dbTime);
+    }
+
+    private Timer operationTimer(OperationKey key) {
+        return Timer.builder(OPERATION_TIMER)
+                .tag("layer", key.layer())
+                .tag("operation", key.operation())
+                .tag("endpoint", key.endpoint())
+                .tag("shape", key.shape())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    private DistributionSummary rowSummary(OperationKey key) {
+        return DistributionSummary.builder(OPERATION_ROWS)
+                .baseUnit("rows")
+                .tag("layer", key.layer())
+                .tag("operation", key.operation())
+                .tag("endpoint", key.endpoint())
+                .tag("shape", key.shape())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(registry);
+    }
+
+    // 목록/단건 결과의 row 수, 셀 수 없는 결과(void, DTO 등)는 -1
+    private static long rowCount(Object result) {
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof CursorPageDto<?> cursorPage) {
+            return cursorPage.getContent().size();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer updatedRows) {
+            return updatedRows;
+        }
+        return -1;
+    }
+
+    // 요청 안에서는 URL pattern (/schedules/{scheduleId}), 그 외(스케줄러, 시작시 색인 등)는 none
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_ENDPOINT;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : NO_ENDPOINT;
+    }
+
+    private record OperationKey(String layer, String operation, String endpoint, String shape, String outcome) {
+    }
+
+    private record RequestMeters(DistributionSummary statements, Timer dbTime) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dailyschedule.common.metrics;
+
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @Service, @Repository 의 public 메서드 실행 시간 측정
+ * Mono/Flux 를 반환하는 reactive 조회는 메서드가 바로 반환되기 때문에 제외한다.
+ * shape 태그 : SearchDto 가 있으면 offset/cursor + CountMode, 없으면 single
+ */
+@Aspect
+@Component
+public class OperationMetricsAspect {
+
+    private final OperationMetrics operationMetrics;
+    private final ConcurrentMap<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    public OperationMetricsAspect(OperationMetrics operationMetrics) {
+        this.operationMetrics = operationMetrics;
+    }
+
+    @Around("execution(public * com.example.dailyschedule..*(..))"
+            + " && (@within(org.springframework.stereotype.Service) || @within(org.springframework.stereotype.Repository))"
+            + " && !within(com.example.dailyschedule..Reactive*)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        boolean success = false;
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Operation operation = operation(joinPoint);
+            operationMetrics.recordOperation(operation.layer(), operation.name(), shape(joinPoint.getArgs()), success, elapsed, result);
+        }
+    }
+
+    // 이름은 "ScheduleRepositoryImpl.findByDate" 형태, 메서드마다 한번만 만든다
+    private Operation operation(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return operations.computeIfAbsent(method, m -> {
+            Class<?> type = m.getDeclaringClass();
+            String layer = type.isAnnotationPresent(Repository.class) ? "repository" : "service";
+            return new Operation(layer, type.getSimpleName() + "." + m.getName());
+        });
+    }
+
+    private static String shape(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof SearchDto searchDto) {
+                String paging = searchDto.getCursor() != null ? "cursor" : "offset";
+                return paging + "_" + searchDto.getCountMode().name().toLowerCase(Locale.ROOT);
+            }
+        }
+        return "single";
+    }
+
+    private record Operation(String layer, String name) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dailyschedule.common.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 읽기 전용 non-blocking(R2DBC) 조회 설정
+ * schedule.reactive.enabled=true 일 때만 R2DBC connection pool을 만들고 /reactive/schedules 조회 API를 사용할 수 있다.
+ * R2DBC 자동 설정은 JDBC 트랜잭션 매니저와 충돌하기 때문에 사용하지 않음 (spring.autoconfigure.exclude)
+ */
+@Configuration
+@ConditionalOnProperty(name = "schedule.reactive.enabled", havingValue = "true")
+public class ReactiveDataConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory(
+            @Value("${schedule.reactive.url}") String url,
+            @Value("${schedule.reactive.username}") String username,
+            @Value("${schedule.reactive.password}") String password,
+            @Value("${schedule.reactive.initial-pool-size:5}") int initialSize,
+            @Value("${schedule.reactive.max-pool-size:20}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+}
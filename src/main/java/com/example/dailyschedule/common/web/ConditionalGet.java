@@ -0,0 +1,42 @@
+package com.example.dailyschedule.common.web;
+
+import com.example.dailyschedule.schedule.dto.ScheduleListVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.Timestamp;
+
+/**
+ * 조건부 GET (If-None-Match / If-Modified-Since) 처리
+ * 단건은 캐시된 조회 결과의 modified_at 으로, 목록은 validator (index 끝 한 건 조회) 로 비교하고
+ * 바뀐게 없으면 304 로 응답한다.
+ * 200 응답에도 ETag 헤더가 설정되기 때문에 client 는 다음 요청에 If-None-Match 로 보내면 된다.
+ * true 를 반환하면 응답 상태와 ETag 헤더가 이미 설정된 상태이므로 controller 는 null 을 반환하면 된다.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    //단건 : ETag, Last-Modified 모두 modified_at 으로 만든다
+    public static boolean notModified(WebRequest request, Timestamp modifiedAt) {
+        if (modifiedAt == null) {
+            // 변경 시각을 모르면 본문으로 응답
+            return false;
+        }
+        long lastModified = modifiedAt.getTime();
+        return request.checkNotModified("\"" + lastModified + "\"", lastModified);
+    }
+
+    //목록 : 삭제는 Last-Modified 로 표현할 수 없어서 ETag 만 사용
+    //page, size 는 URL 이 다르면 다른 리소스라서 ETag 에 넣지 않는다.
+    public static boolean notModified(WebRequest request, ScheduleListVersion version) {
+        String etag = "W/\"" + millis(version.getScheduleModifiedAt())
+                + "-" + millis(version.getMemberModifiedAt())
+                + "-" + millis(version.getPurgedAt()) + "\"";
+        return request.checkNotModified(etag);
+    }
+
+    private static long millis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : 0L;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dailyschedule.common.web;
+
+import com.example.dailyschedule.common.datasource.QueryStatistics;
+import com.example.dailyschedule.common.metrics.OperationMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 1건에서 실행한 SQL statement 개수와 DB 시간 기록
+ * 응답 헤더(X-Query-Count, X-Query-Time-Ms)와 metric(schedule.request.*) 으로 내보낸다.
+ * body 가 있는 응답은 body 를 쓰기 직전에 QueryCountResponseAdvice 가 헤더를 설정하고,
+ * 여기서는 body 가 없는 응답(304 등)만 헤더를 설정한다. (streaming 응답은 헤더 없이 metric 만 기록)
+ * QueryStatistics 는 thread 단위라서 요청 thread 에서 실행한 JDBC statement 만 기록된다.
+ * group commit 으로 flusher thread 에서 실행한 수정은 ScheduleUpdateBatcher 가 호출한 요청에 더해주고,
+ * /reactive 요청(R2DBC, 다른 thread)은 기록되지 않는다.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    static final String STATISTICS_ATTRIBUTE = QueryCountFilter.class.getName() + ".STATISTICS";
+
+    private final OperationMetrics operationMetrics;
+
+    public QueryCountFilter(OperationMetrics operationMetrics) {
+        this.operationMetrics = operationMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryStatistics statistics = QueryStatistics.start()) {
+            request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (!response.isCommitted()) {
+                    writeHeaders(response, statistics);
+                }
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                operationMetrics.recordRequestQueries(pattern != null ? pattern.toString() : null,
+                        statistics.getStatementCount(), statistics.getElapsedNanos());
+            }
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryStatistics statistics) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(statistics.getStatementCount()));
+        response.setHeader(QUERY_TIME_HEADER, String.valueOf(statistics.getElapsedNanos() / 1_000_000));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.dailyschedule.common.web;
+
+import com.example.dailyschedule.common.datasource.QueryStatistics;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * body 를 쓰기 직전에 지금까지 실행한 statement 개수를 응답 헤더에 설정
+ * (body 를 쓰고 나면 응답이 commit 되어서 filter 에서는 헤더를 추가할 수 없다)
+ */
+@ControllerAdvice
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(QueryCountFilter.STATISTICS_ATTRIBUTE) instanceof QueryStatistics statistics) {
+            response.getHeaders().set(QueryCountFilter.QUERY_COUNT_HEADER, String.valueOf(statistics.getStatementCount()));
+            response.getHeaders().set(QueryCountFilter.QUERY_TIME_HEADER, String.valueOf(statistics.getElapsedNanos() / 1_000_000));
+        }
+        return body;
+    }
+}
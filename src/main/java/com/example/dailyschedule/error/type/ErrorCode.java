@@ -9,6 +9,7 @@ public enum ErrorCode {
     DELETE_FAILED("삭제에 실패했습니다.", 400),
 
     ID_EXIST("중복된 아이디 입니다. " , 409),
+    SCHEDULE_CONFLICT("같은 시간에 다른 스케줄이 있습니다.", 409),
     USER_ID_EXIST("중복된 userId 입니다. " , 409),
 
     NOT_FOUND("조회에 실패했습니다.", 404),
@@ -20,7 +21,14 @@ public enum ErrorCode {
     ID_INCORRECT("ID 값이 일치하지 않습니다.", 401),
 
     INTERNAL_SERVER_ERROR("서버 에러 입니다, 서버팀에 연락 주세요!!", 500),
-    PAGE_DOES_NOT_EXIST("page가 존재하지 않습니다", 404);
+    PAGE_DOES_NOT_EXIST("page가 존재하지 않습니다", 404),
+    INVALID_CURSOR("잘못된 cursor 값입니다.", 400),
+    UNSUPPORTED_FORMAT("지원하지 않는 파일 형식입니다.", 400),
+    INVALID_KEYWORD("검색어를 입력해주세요.", 400),
+    INVALID_MONTH("잘못된 월 형식입니다. (yyyy-MM)", 400),
+    INVALID_RECURRENCE("잘못된 반복 규칙입니다.", 400),
+    INVALID_DATE_RANGE("잘못된 조회 기간입니다.", 400),
+    INVALID_TIME_RANGE("종료 시각은 시작 시각 이후여야 합니다.", 400);
 
     private final String message;
     private final int status;
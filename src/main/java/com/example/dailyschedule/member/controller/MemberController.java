@@ -1,5 +1,6 @@
 package com.example.dailyschedule.member.controller;
 
+import com.example.dailyschedule.common.web.ConditionalGet;
 import com.example.dailyschedule.error.CustomException;
 import com.example.dailyschedule.error.type.ErrorCode;
 import com.example.dailyschedule.member.dto.MemberDto;
@@ -7,6 +8,7 @@ import com.example.dailyschedule.member.service.MemberService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import static com.example.dailyschedule.error.type.ErrorCode.*;
 
@@ -23,9 +25,13 @@ public class MemberController {
 
     //아이디 조회
     @GetMapping("/{memberId}")
-    public ResponseEntity<?> findByMemberId(@PathVariable("memberId") Long memberId) {
+    public ResponseEntity<?> findByMemberId(@PathVariable("memberId") Long memberId, WebRequest webRequest) {
         try {
             MemberDto findMember = memberService.findById(memberId);
+            // 캐시된 회원의 modified_at 으로 비교 (validator 용 쿼리 없음), 변경이 없으면 304
+            if (ConditionalGet.notModified(webRequest, findMember.getModifiedAt())) {
+                return null;
+            }
             return ResponseEntity.ok(findMember);
         } catch (IllegalArgumentException e) {
             log.error("해당 회원을 찾을 수 없습니다. {}", e.getMessage());
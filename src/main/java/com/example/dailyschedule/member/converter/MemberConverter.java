@@ -27,6 +27,7 @@ public class MemberConverter {
                 .password(member.getPassword())
                 .email(member.getEmail())
                 .updatedAt(member.getUpdatedAt())
+                .modifiedAt(member.getModifiedAt())
                 .build();
     }
 }
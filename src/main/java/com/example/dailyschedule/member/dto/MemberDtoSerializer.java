@@ -0,0 +1,50 @@
+package com.example.dailyschedule.member.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * MemberDto 응답 직렬화
+ * bean introspection 없이 필드를 직접 쓰고, 필드 이름은 미리 인코딩해 둔 값을 사용한다.
+ * password 는 응답에 포함하지 않고, null 인 필드는 생략한다.
+ */
+public class MemberDtoSerializer extends StdSerializer<MemberDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    public MemberDtoSerializer() {
+        super(MemberDto.class);
+    }
+
+    @Override
+    public void serialize(MemberDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        if (value.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+        }
+        writeString(gen, USER_ID, value.getUserId());
+        writeString(gen, NAME, value.getName());
+        writeString(gen, EMAIL, value.getEmail());
+        if (value.getUpdatedAt() != null) {
+            // java.sql.Date 기본 직렬화와 같은 yyyy-MM-dd
+            writeString(gen, UPDATED_AT, value.getUpdatedAt().toString());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+}
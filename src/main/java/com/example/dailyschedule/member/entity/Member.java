@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 
 @Getter
 @NoArgsConstructor
@@ -18,4 +19,5 @@ public class Member {
     private String name;
     private String email;
     private Date updatedAt;
+    private Timestamp modifiedAt; //조건부 GET 용 변경 시각
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.example.dailyschedule.member.event;
+
+/**
+ * 회원 삭제 이벤트 (회원 삭제 트랜잭션 안에서 발행)
+ * 회원의 스케줄 정리는 schedule 쪽에서 이 이벤트를 받아서 처리한다.
+ */
+public record MemberDeletedEvent(Long memberId) {
+}
@@ -1,13 +1,27 @@
 package com.example.dailyschedule.member.repository;
 
+import com.example.dailyschedule.common.cache.CacheNames;
+import com.example.dailyschedule.common.cache.ScheduleCacheEvictor;
+import com.example.dailyschedule.common.cache.SingleFlight;
 import com.example.dailyschedule.error.CustomException;
 import com.example.dailyschedule.member.entity.Member;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.example.dailyschedule.error.type.ErrorCode.*;
 
@@ -15,9 +29,13 @@ import static com.example.dailyschedule.error.type.ErrorCode.*;
 public class MemberRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ScheduleCacheEvictor scheduleCacheEvictor;
+    private final SingleFlight singleFlight;
 
-    public MemberRepository(JdbcTemplate jdbcTemplate) {
+    public MemberRepository(JdbcTemplate jdbcTemplate, ScheduleCacheEvictor scheduleCacheEvictor, SingleFlight singleFlight) {
         this.jdbcTemplate = jdbcTemplate;
+        this.scheduleCacheEvictor = scheduleCacheEvictor;
+        this.singleFlight = singleFlight;
     }
 
     //생성
@@ -25,15 +43,19 @@ public class MemberRepository {
 
         String sql = "INSERT INTO member (user_id, password, name, email, updated_at) VALUES (?, ?, ?, ?, ?)";
 
-        jdbcTemplate.update(sql,
-                member.getUserId(),
-                member.getPassword(),
-                member.getName(),
-                member.getEmail(),
-                member.getUpdatedAt());
-
-        //jdbcTemplate.queryForObject를 사용하여 마지막에 삽입된 레코드의 ID를 Long 타입으로 가져오는 것
-        Long generatedId = jdbcTemplate.queryForObject("select LAST_INSERT_ID()", Long.class);
+        //GeneratedKeyHolder를 사용해 INSERT 와 같은 statement에서 생성된 ID를 가져오는 것
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, member.getUserId());
+            ps.setString(2, member.getPassword());
+            ps.setString(3, member.getName());
+            ps.setString(4, member.getEmail());
+            ps.setDate(5, member.getUpdatedAt());
+            return ps;
+        }, keyHolder);
+
+        Long generatedId = keyHolder.getKey() != null ? keyHolder.getKey().longValue() : null;
         return Member.builder()
                 .id(generatedId)
                 .userId(member.getUserId())
@@ -46,7 +68,7 @@ public class MemberRepository {
 
     //userId 조회
     public Member findByUserId(String userId) {
-        String selectMemberSql = "SELECT * FROM member WHERE user_id = ?";
+        String selectMemberSql = "SELECT * FROM member WHERE user_id = ? AND deleted_at IS NULL";
         try {
             return jdbcTemplate.queryForObject(selectMemberSql, new Object[]{userId}, (rs, rowNum) ->
                     Member.builder()
@@ -56,6 +78,7 @@ public class MemberRepository {
                             .name(rs.getString("name"))
                             .email(rs.getString("email"))
                             .updatedAt(rs.getDate("updated_at"))
+                            .modifiedAt(rs.getTimestamp("modified_at"))
                             .build()
             );
         } catch (EmptyResultDataAccessException e) {
@@ -66,28 +89,44 @@ public class MemberRepository {
 
     //전체 조회
     public List<Member> findAll() {
-        String sql = "select * from member";
+        String sql = "select * from member where deleted_at is null";
         return jdbcTemplate.query(sql, memberRowMapper());
     }
 
     //아이디 조회
+    @Cacheable(cacheNames = CacheNames.MEMBERS, key = "#id", condition = "#id != null", unless = "#result == null")
     public Member findById(Long id) {
         if (id == null) {
             throw new CustomException(ID_NOT_FOUND);
         }
 
-        String sql = "select * from member where id = ?";
+        String sql = "select * from member where id = ? and deleted_at is null";
 
-        try {
-            return jdbcTemplate.queryForObject(sql, new Object[]{id}, memberRowMapper());
-        } catch (EmptyResultDataAccessException e) {
-            return null; // 또는 Optional.empty()로 반환하여 예외 처리
+        // 로그인 등으로 같은 회원 조회가 동시에 몰리면 쿼리는 한번만 실행
+        return singleFlight.execute(CacheNames.MEMBERS, id, () -> {
+            try {
+                return jdbcTemplate.queryForObject(sql, new Object[]{id}, memberRowMapper());
+            } catch (EmptyResultDataAccessException e) {
+                return null; // 또는 Optional.empty()로 반환하여 예외 처리
+            }
+        });
+    }
+
+    //존재하는 회원 id만 한번에 조회 (batch 생성시 회원 검증용)
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
         }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "select id from member where id in (" + placeholders + ") and deleted_at is null";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, ids.toArray()));
     }
 
     //Update
+    @CacheEvict(cacheNames = CacheNames.MEMBERS, key = "#member.id")
     public Member updateMember(Member member) {
-        String sql = "update member set user_Id = ?, password = ?, name = ?, email = ?, updated_at = ? where id = ?";
+        String sql = "update member set user_Id = ?, password = ?, name = ?, email = ?, updated_at = ? where id = ? and deleted_at is null";
 
         int updateRows = jdbcTemplate.update(sql,
                 member.getUserId(),
@@ -101,20 +140,30 @@ public class MemberRepository {
             throw new IllegalArgumentException("회원 정보를 update 하는데 실패했습니다.");
         }
 
+        // 스케줄 캐시에 들어있는 회원 정보도 제거
+        scheduleCacheEvictor.evictSchedulesOfMember(member.getId());
+        singleFlight.forget(CacheNames.MEMBERS, member.getId());
         return member;
     }
 
     //삭제
+    @CacheEvict(cacheNames = CacheNames.MEMBERS, key = "#id", condition = "#id != null")
     public void deleteMember(Long id) {
         if (id == null) {
             throw new CustomException(ID_NOT_FOUND);
         }
 
-        String sql = "delete from member where id = ?";
+        // 삭제 표시만 하고 (PK UPDATE 한번) 회원의 스케줄과 회원 row 는 SchedulePurgeJob 이 나눠서 삭제
+        // 스케줄 조회는 member.deleted_at 으로 바로 제외되기 때문에 스케줄 개수와 상관없이 lock 은 회원 row 하나
+        String sql = "update member set deleted_at = CURRENT_TIMESTAMP where id = ? and deleted_at is null";
         int delete = jdbcTemplate.update(sql, id);
         if (delete == 0) {
             throw new CustomException(DELETE_FAILED);
         }
+
+        // 회원의 스케줄도 조회되지 않기 때문에 캐시에서 제거
+        scheduleCacheEvictor.evictSchedulesOfMember(id);
+        singleFlight.forget(CacheNames.MEMBERS, id);
     }
 
     public Member findByName(String name) {
@@ -122,7 +171,7 @@ public class MemberRepository {
             throw new CustomException(NOT_FOUND);
         }
 
-        String sql = "select * from member where name = ?";
+        String sql = "select * from member where name = ? and deleted_at is null";
         return jdbcTemplate.queryForObject(sql, new Object[]{name}, memberRowMapper());
     }
 
@@ -134,9 +183,14 @@ public class MemberRepository {
                 .email(rs.getString("email"))
                 .password(rs.getString("password"))
                 .updatedAt(rs.getDate("updated_at"))
+                .modifiedAt(rs.getTimestamp("modified_at"))
                 .build();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MEMBERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.SCHEDULES, allEntries = true)
+    })
     public void deleteMember() {
         String memberSql = "delete from member";
         int memberDeletedCount = jdbcTemplate.update(memberSql);
@@ -147,6 +201,10 @@ public class MemberRepository {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MEMBERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.SCHEDULES, allEntries = true)
+    })
     public void deleteMemberAndSchedule() {
 
         String memberSql = "delete from member";
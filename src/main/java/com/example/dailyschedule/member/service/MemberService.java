@@ -4,7 +4,9 @@ import com.example.dailyschedule.member.converter.MemberConverter;
 import com.example.dailyschedule.member.validation.MemberValidation;
 import com.example.dailyschedule.member.dto.MemberDto;
 import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.member.event.MemberDeletedEvent;
 import com.example.dailyschedule.member.repository.MemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,10 +19,12 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberConverter memberConverter;
     private final MemberValidation memberValidation;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MemberService(MemberRepository memberRepository, MemberConverter memberConverter) {
+    public MemberService(MemberRepository memberRepository, MemberConverter memberConverter, ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.memberConverter = memberConverter;
+        this.eventPublisher = eventPublisher;
         this.memberValidation = new MemberValidation(memberRepository);
     }
 
@@ -85,6 +89,7 @@ public class MemberService {
         Member member = memberValidation.validateExistId(memberId);
         memberValidation.validatePassword(member, password);
         memberRepository.deleteMember(member.getId());
+        eventPublisher.publishEvent(new MemberDeletedEvent(member.getId())); // 스케줄 색인 정리는 schedule 쪽에서 처리
         return memberConverter.toDto(member);
     }
 }
@@ -0,0 +1,67 @@
+package com.example.dailyschedule.schedule.controller;
+
+import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.service.ReactiveScheduleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+
+/**
+ * ScheduleController 조회 API의 non-blocking 버전 (schedule.reactive.enabled=true 일 때만 등록)
+ * 요청 thread는 바로 반환되고, 목록은 Accept: application/x-ndjson 이면 row 단위로 streaming 된다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/reactive/schedules")
+@ConditionalOnProperty(name = "schedule.reactive.enabled", havingValue = "true")
+public class ReactiveScheduleController {
+
+    private final ReactiveScheduleService reactiveScheduleService;
+
+    public ReactiveScheduleController(ReactiveScheduleService reactiveScheduleService) {
+        this.reactiveScheduleService = reactiveScheduleService;
+    }
+
+    //아이디 조회
+    @GetMapping("/{scheduleId}")
+    public Mono<ScheduleDto> findById(@PathVariable Long scheduleId) {
+        return reactiveScheduleService.findById(scheduleId)
+                .doOnError(CustomException.class, e -> log.error("존재하지 않는 사용자 입니다 : {}", e.getMessage()));
+    }
+
+    //updated 날짜와 작성자로 조회
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ScheduleDto> findScheduleByUpdatedDateAndAuthor(
+            @RequestParam(required = false) Date updatedAt,
+            @RequestParam(required = false) String author, SearchDto searchDto) {
+        return reactiveScheduleService.findByUpdatedDateAndAuthor(updatedAt, author, searchDto)
+                .doOnError(CustomException.class, e -> log.error("해당 정보를 찾을 수 없습니다: {}", e.getMessage()));
+    }
+
+    //내림차순 조회
+    @GetMapping(value = "/dateDesc", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ScheduleDto> findByUpdatedDateDesc(SearchDto searchDto) {
+        return reactiveScheduleService.findByUpdatedDateDesc(searchDto);
+    }
+
+    //회원 스케줄 조회
+    @GetMapping(value = "/{memberId}/{scheduleId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ScheduleDto> findSchedulesByMemberId(
+            @PathVariable Long memberId,
+            @PathVariable Long scheduleId,
+            SearchDto searchDto) {
+        return reactiveScheduleService.findSchedulesByMemberId(searchDto, memberId, scheduleId)
+                .onErrorMap(CustomException.class, e -> {
+                    log.error("조회에 실패했습니다. : {} ", e.getMessage());
+                    return new CustomException(ErrorCode.ID_NOT_FOUND);
+                });
+    }
+}
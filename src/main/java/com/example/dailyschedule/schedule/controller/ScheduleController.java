@@ -1,20 +1,38 @@
 package com.example.dailyschedule.schedule.controller;
 
+import com.example.dailyschedule.common.web.ConditionalGet;
 import com.example.dailyschedule.error.CustomException;
 import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.schedule.dto.BatchCreateResultDto;
+import com.example.dailyschedule.schedule.dto.CountMode;
+import com.example.dailyschedule.schedule.dto.CursorPageDto;
 import com.example.dailyschedule.schedule.dto.DeleteScheduleRequest;
+import com.example.dailyschedule.schedule.dto.ExportFormat;
+import com.example.dailyschedule.schedule.dto.ImportResultDto;
+import com.example.dailyschedule.schedule.dto.ListResponseDto;
+import com.example.dailyschedule.schedule.dto.MonthSummaryDto;
 import com.example.dailyschedule.schedule.dto.ScheduleDto;
 import com.example.dailyschedule.schedule.dto.SearchDto;
 import com.example.dailyschedule.schedule.dto.UpdatedScheduleDto;
+import com.example.dailyschedule.schedule.service.ScheduleExportService;
+import com.example.dailyschedule.schedule.service.ScheduleImportService;
 import com.example.dailyschedule.schedule.service.ScheduleServiceImpl;
 import com.example.dailyschedule.schedule.dto.SingleDateScheduleDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -22,17 +40,26 @@ import java.sql.Date;
 public class ScheduleController {
 
     private final ScheduleServiceImpl scheduleService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleImportService scheduleImportService;
 
-    public ScheduleController(ScheduleServiceImpl scheduleService) {
+    public ScheduleController(ScheduleServiceImpl scheduleService, ScheduleExportService scheduleExportService,
+                              ScheduleImportService scheduleImportService) {
         this.scheduleService = scheduleService;
+        this.scheduleExportService = scheduleExportService;
+        this.scheduleImportService = scheduleImportService;
     }
 
     //아이디 조회
     @GetMapping("/{scheduleId}")
-    public ResponseEntity<?> findById(@PathVariable Long scheduleId) {
+    public ResponseEntity<?> findById(@PathVariable Long scheduleId, WebRequest webRequest) {
 
         try {
             ScheduleDto findSchedule = scheduleService.findById(scheduleId);
+            // 캐시된 단건의 modified_at 으로 비교 (validator 용 쿼리 없음), 변경이 없으면 304
+            if (ConditionalGet.notModified(webRequest, findSchedule.getModifiedAt())) {
+                return null;
+            }
             return ResponseEntity.status(HttpStatus.OK).body(findSchedule);
         } catch (CustomException e) {
             log.error("존재하지 않는 사용자 입니다 : {}", e.getMessage());
@@ -47,8 +74,12 @@ public class ScheduleController {
             @RequestParam(required = false) Date updatedAt,
             @RequestParam(required = false) String author, SearchDto searchDto) {
         try {
+            if (searchDto.getCountMode() == CountMode.NONE) {
+                Slice<ScheduleDto> findSchedules = scheduleService.findByUpdatedDateAndAuthorSlice(updatedAt, author, searchDto);
+                return ResponseEntity.status(HttpStatus.OK).body(ListResponseDto.of(findSchedules, searchDto));
+            }
             Page<ScheduleDto> findSchedules = scheduleService.findByUpdatedDateAndAuthor(updatedAt, author, searchDto);
-            return ResponseEntity.status(HttpStatus.OK).body(findSchedules);
+            return ResponseEntity.status(HttpStatus.OK).body(ListResponseDto.of(findSchedules, searchDto));
         } catch (CustomException e) {
             log.error("해당 정보를 찾을 수 없습니다: {}", e.getMessage());
             if (e.getErrorCode() == ErrorCode.PASSWORD_INCORRECT) {
@@ -59,43 +90,137 @@ public class ScheduleController {
         throw new CustomException(ErrorCode.UPDATE_FAILED);
     }
 
+    //title, description 키워드 검색
+    @GetMapping("/search/keyword")
+    public ResponseEntity<?> searchByKeyword(@RequestParam String query, SearchDto searchDto) {
+        try {
+            Page<ScheduleDto> findSchedules = scheduleService.searchByKeyword(query, searchDto);
+            return ResponseEntity.ok(ListResponseDto.of(findSchedules, searchDto));
+        } catch (CustomException e) {
+            log.error("키워드 검색에 실패했습니다. : {}", e.getMessage());
+            throw e;
+        }
+    }
+
     //update 날짜로 조회
     @GetMapping("/date")
     public ResponseEntity<?> findByUpdatedDate(
             @RequestParam Date updatedAt,
             SearchDto searchDto) {
         try {
+            if (searchDto.getCountMode() == CountMode.NONE) {
+                Slice<ScheduleDto> findDate = scheduleService.findByDateSlice(updatedAt, searchDto);
+                return ResponseEntity.ok(ListResponseDto.of(findDate, searchDto));
+            }
             Page<ScheduleDto> findDate = scheduleService.findByDate(updatedAt, searchDto);
-            return ResponseEntity.ok(findDate);
+            return ResponseEntity.ok(ListResponseDto.of(findDate, searchDto));
         } catch (CustomException e) {
             log.error("해당 날짜를 조회할 수 없습니다: {}", e.getMessage());
             throw new CustomException(ErrorCode.DATE_NOT_FOUND);
         }
     }
 
-    //내림차순 조회
+    //내림차순 조회 (cursor 파라미터가 있으면 cursor 방식, 첫 페이지는 cursor= 로 요청)
     @GetMapping("/dateDesc")
-    public ResponseEntity<?> findByUpdatedDateDesc(SearchDto searchDto) {
+    public ResponseEntity<?> findByUpdatedDateDesc(SearchDto searchDto, WebRequest webRequest) {
         try {
+            if (searchDto.getCursor() != null) {
+                CursorPageDto<ScheduleDto> findDate = scheduleService.findByUpdatedDateDescWithCursor(searchDto);
+                return ResponseEntity.ok(ListResponseDto.of(findDate));
+            }
+            if (searchDto.getCountMode() == CountMode.NONE) {
+                Slice<ScheduleDto> findDate = scheduleService.findByUpdatedDateDescSlice(searchDto);
+                return ResponseEntity.ok(ListResponseDto.of(findDate, searchDto));
+            }
+            // 200 응답에도 ETag 를 내려주기 위해 항상 validator 조회, 변경이 없으면 목록 조회 없이 304
+            if (ConditionalGet.notModified(webRequest, scheduleService.findListVersion(null))) {
+                return null;
+            }
             Page<ScheduleDto> findDate = scheduleService.findByUpdatedDateDesc(searchDto);
-            return ResponseEntity.ok(findDate);
+            return ResponseEntity.ok(ListResponseDto.of(findDate, searchDto));
         } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.INVALID_CURSOR) {
+                log.error("잘못된 cursor 입니다. : {}", searchDto.getCursor());
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
             log.error("해당 날짜를 내림차순으로 조회 할 수 없습니다. : {}", e.getMessage());
             throw new CustomException(ErrorCode.PAGE_DOES_NOT_EXIST);
         }
     }
 
+    //export (format=ndjson|csv), 조회 결과를 모으지 않고 응답으로 바로 streaming
+    @GetMapping("/export")
+    public void exportSchedules(
+            @RequestParam(required = false) Date updatedAt,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schedules." + exportFormat.getExtension() + "\"");
+        scheduleExportService.export(exportFormat, updatedAt, author, memberId, response.getOutputStream());
+    }
+
+    //회원의 월별 날짜별 스케줄 개수 (month=yyyy-MM)
+    @GetMapping("/{memberId}/calendar")
+    public ResponseEntity<?> findMonthSummary(@PathVariable Long memberId, @RequestParam String month) {
+        MonthSummaryDto summary = scheduleService.findMonthSummary(memberId, month);
+        return ResponseEntity.ok(summary);
+    }
+
+    //회원의 기간 내 발생일 목록, 반복 스케줄은 기간 안에서만 계산 (from, to=yyyy-MM-dd)
+    @GetMapping("/{memberId}/occurrences")
+    public ResponseEntity<?> findOccurrences(
+            @PathVariable Long memberId,
+            @RequestParam Date from,
+            @RequestParam Date to,
+            @RequestParam(defaultValue = "100") int limit) {
+        Slice<ScheduleDto> occurrences = scheduleService.findOccurrences(memberId, from, to, limit);
+        return ResponseEntity.ok(new ListResponseDto<>(occurrences.getContent(), occurrences.hasNext(), null, null, null));
+    }
+
+    //회원의 [from, to) 와 시간이 겹치는 스케줄 (from, to=yyyy-MM-dd HH:mm:ss)
+    @GetMapping("/{memberId}/overlaps")
+    public ResponseEntity<?> findOverlapping(
+            @PathVariable Long memberId,
+            @RequestParam Timestamp from,
+            @RequestParam Timestamp to,
+            @RequestParam(defaultValue = "100") int limit) {
+        Slice<ScheduleDto> overlaps = scheduleService.findOverlapping(memberId, from, to, limit);
+        return ResponseEntity.ok(new ListResponseDto<>(overlaps.getContent(), overlaps.hasNext(), null, null, null));
+    }
+
     //동시 조회 Page
     @GetMapping("/{memberId}/{scheduleId}")
     public ResponseEntity<?> findSchedulesByMemberId(
             @PathVariable Long memberId,
             @PathVariable Long scheduleId,
-            SearchDto searchDto
+            SearchDto searchDto,
+            WebRequest webRequest
     ) {
         try {
-            Page<ScheduleDto> findSchedules = scheduleService.findSchedulesByMemberId(searchDto, scheduleId, memberId);
-            return ResponseEntity.status(HttpStatus.OK).body(findSchedules);
+            if (searchDto.getCursor() != null) {
+                CursorPageDto<ScheduleDto> findSchedules = scheduleService.findSchedulesByMemberIdWithCursor(searchDto, memberId, scheduleId);
+                return ResponseEntity.status(HttpStatus.OK).body(ListResponseDto.of(findSchedules));
+            }
+            if (searchDto.getCountMode() == CountMode.NONE) {
+                Slice<ScheduleDto> findSchedules = scheduleService.findSchedulesByMemberIdSlice(searchDto, memberId, scheduleId);
+                return ResponseEntity.status(HttpStatus.OK).body(ListResponseDto.of(findSchedules, searchDto));
+            }
+            // 200 응답에도 ETag 를 내려주기 위해 항상 validator 조회, 변경이 없으면 목록 조회 없이 304
+            if (ConditionalGet.notModified(webRequest, scheduleService.findListVersion(memberId))) {
+                return null;
+            }
+            Page<ScheduleDto> findSchedules = scheduleService.findSchedulesByMemberId(searchDto, memberId, scheduleId);
+            return ResponseEntity.status(HttpStatus.OK).body(ListResponseDto.of(findSchedules, searchDto));
         } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.INVALID_CURSOR) {
+                log.error("잘못된 cursor 입니다. : {}", searchDto.getCursor());
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
             log.error("조회에 실패했습니다. : {} ", e.getMessage());
             throw new CustomException(ErrorCode.ID_NOT_FOUND);
         }
@@ -148,6 +273,29 @@ public class ScheduleController {
         }
     }
 
+    //일괄 생성 (항목별 성공/실패 결과 반환)
+    @PostMapping("/batch")
+    public ResponseEntity<?> createSchedules(
+            @RequestBody List<ScheduleDto> scheduleDtos) {
+
+        try {
+            BatchCreateResultDto result = scheduleService.createBatch(scheduleDtos);
+            return ResponseEntity.status(HttpStatus.OK).body(result);
+        } catch (CustomException e) {
+            log.error("일정을 일괄 생성하는데 실패했습니다. : {}", e.getMessage());
+            throw new CustomException(ErrorCode.CREATION_FAILED);
+        }
+    }
+
+    //파일 import (format=ndjson|csv), 요청 body를 streaming 으로 읽어서 chunk 단위로 저장
+    @PostMapping("/import")
+    public ResponseEntity<?> importSchedules(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) throws IOException {
+        ImportResultDto result = scheduleImportService.importSchedules(ExportFormat.from(format), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     //update 날짜
     @PutMapping("/{scheduleId}")
     public ResponseEntity<?> updateSchedule(
@@ -6,8 +6,13 @@ import com.example.dailyschedule.member.converter.MemberConverter;
 import com.example.dailyschedule.member.entity.Member;
 import com.example.dailyschedule.schedule.entity.Schedule;
 import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.recurrence.RecurrenceRule;
 import org.springframework.stereotype.Component;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
 @Component
 public class ScheduleConverter {
 
@@ -23,29 +28,41 @@ public class ScheduleConverter {
             throw new CustomException(ErrorCode.INVALID_MEMBER_INFO); // member가 null일 때 예외 처리
         }
 
+        validateTimeRange(scheduleDto);
+        RecurrenceRule recurrence = parseRecurrence(scheduleDto);
         return Schedule.builder()
                 .id(scheduleDto.getId())
                 .author(scheduleDto.getAuthor())
                 .title(scheduleDto.getTitle())
                 .createdAt(scheduleDto.getCreatedAt())
-                .deletedAt(scheduleDto.getDeletedAt())
                 .description(scheduleDto.getDescription())
                 .updatedAt(scheduleDto.getUpdatedAt())
                 .password(scheduleDto.getPassword())
+                .recurrenceRule(recurrence != null ? recurrence.format() : null)
+                .recurrenceExceptions(recurrence != null ? formatExceptions(scheduleDto.getRecurrenceExceptions()) : null)
+                .recurrenceUntil(recurrence != null ? Date.valueOf(recurrence.lastDate(scheduleDto.getCreatedAt().toLocalDate())) : null)
+                .startAt(scheduleDto.getStartAt())
+                .endAt(scheduleDto.getEndAt())
                 .member(member) // Member 포함
                 .build();
     }
 
     public Schedule toEntityWithoutMember(ScheduleDto scheduleDto) {
+        validateTimeRange(scheduleDto);
+        RecurrenceRule recurrence = parseRecurrence(scheduleDto);
         return Schedule.builder()
                 .id(scheduleDto.getId())
                 .author(scheduleDto.getAuthor())
                 .title(scheduleDto.getTitle())
                 .createdAt(scheduleDto.getCreatedAt())
-                .deletedAt(scheduleDto.getDeletedAt())
                 .description(scheduleDto.getDescription())
                 .updatedAt(scheduleDto.getUpdatedAt())
                 .password(scheduleDto.getPassword())
+                .recurrenceRule(recurrence != null ? recurrence.format() : null)
+                .recurrenceExceptions(recurrence != null ? formatExceptions(scheduleDto.getRecurrenceExceptions()) : null)
+                .recurrenceUntil(recurrence != null ? Date.valueOf(recurrence.lastDate(scheduleDto.getCreatedAt().toLocalDate())) : null)
+                .startAt(scheduleDto.getStartAt())
+                .endAt(scheduleDto.getEndAt())
                 .build();
     }
 
@@ -60,8 +77,69 @@ public class ScheduleConverter {
                 .deletedAt(schedule.getDeletedAt())
                 .description(schedule.getDescription())
                 .password(schedule.getPassword())
+                .recurrenceRule(schedule.getRecurrenceRule())
+                .recurrenceExceptions(parseExceptions(schedule.getRecurrenceExceptions()))
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
+                .modifiedAt(schedule.getModifiedAt())
+                .memberDto(schedule.getMember() != null ? memberConverter.toDto(schedule.getMember()) : null)
+                .build();
+    }
+
+    // 반복 스케줄의 발생일 하나 (날짜 조회 결과)
+    public ScheduleDto toOccurrenceDto(Schedule schedule, LocalDate occurrenceDate) {
+        return ScheduleDto.builder()
+                .id(schedule.getId())
+                .author(schedule.getAuthor())
+                .title(schedule.getTitle())
+                .createdAt(schedule.getCreatedAt())
+                .updatedAt(schedule.getUpdatedAt())
+                .deletedAt(schedule.getDeletedAt())
+                .description(schedule.getDescription())
+                .password(schedule.getPassword())
+                .recurrenceRule(schedule.getRecurrenceRule())
+                .recurrenceExceptions(parseExceptions(schedule.getRecurrenceExceptions()))
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
+                .occurrenceDate(Date.valueOf(occurrenceDate))
                 .memberDto(schedule.getMember() != null ? memberConverter.toDto(schedule.getMember()) : null)
                 .build();
     }
 
+    // 반복 규칙은 시작일(createdAt)이 있어야 함, 저장할 때는 정규화한 형태로 저장
+    private static RecurrenceRule parseRecurrence(ScheduleDto scheduleDto) {
+        if (scheduleDto.getRecurrenceRule() == null || scheduleDto.getRecurrenceRule().isBlank()) {
+            return null;
+        }
+        if (scheduleDto.getCreatedAt() == null) {
+            throw new CustomException(ErrorCode.INVALID_RECURRENCE);
+        }
+        return RecurrenceRule.parse(scheduleDto.getRecurrenceRule());
+    }
+
+    // 시작, 종료 시각은 둘 다 없거나 둘 다 있어야 하고, 종료가 시작보다 늦어야 함
+    private static void validateTimeRange(ScheduleDto scheduleDto) {
+        if (scheduleDto.getStartAt() == null && scheduleDto.getEndAt() == null) {
+            return;
+        }
+        if (scheduleDto.getStartAt() == null || scheduleDto.getEndAt() == null
+                || !scheduleDto.getEndAt().after(scheduleDto.getStartAt())) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+    }
+
+    private static String formatExceptions(List<Date> exceptions) {
+        if (exceptions == null) {
+            return null;
+        }
+        return RecurrenceRule.formatExceptions(exceptions.stream().map(Date::toLocalDate).toList());
+    }
+
+    private static List<Date> parseExceptions(String exceptions) {
+        if (exceptions == null) {
+            return null;
+        }
+        return RecurrenceRule.parseExceptions(exceptions).stream().map(Date::valueOf).toList();
+    }
+
 }
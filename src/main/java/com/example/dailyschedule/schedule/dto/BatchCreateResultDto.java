@@ -0,0 +1,21 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BatchCreateResultDto {
+    private int successCount;
+    private int failureCount;
+    private List<BatchItemResultDto> results;
+
+    public static BatchCreateResultDto of(List<BatchItemResultDto> results) {
+        int successCount = (int) results.stream().filter(BatchItemResultDto::isSuccess).count();
+        return new BatchCreateResultDto(successCount, results.size() - successCount, results);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class BatchItemResultDto {
+    private int index;       // 요청 목록에서의 순서
+    private boolean success;
+    private Long id;         // 생성된 스케줄 id (실패시 null)
+    private String message;  // 실패 사유
+
+    public static BatchItemResultDto success(int index, Long id) {
+        return new BatchItemResultDto(index, true, id, null);
+    }
+
+    public static BatchItemResultDto failure(int index, String message) {
+        return new BatchItemResultDto(index, false, null, message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dailyschedule.schedule.dto;
+
+/**
+ * Paging 조회시 전체 개수를 어떻게 구할지
+ * EXACT : COUNT(*) 쿼리 실행 (기본값)
+ * ESTIMATED : 테이블 통계 / 실행 계획의 예상 row 수 사용
+ * NONE : 전체 개수 없이 limit + 1 개를 조회해서 다음 페이지 존재 여부만 반환 (Slice)
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
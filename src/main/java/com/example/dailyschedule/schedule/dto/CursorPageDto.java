@@ -0,0 +1,25 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * cursor 방식 조회 결과
+ * page 번호 대신 다음 조회에 사용할 nextCursor를 반환 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public <R> CursorPageDto<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorPageDto<>(converted, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.sql.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class DayCountDto {
+    private Date day;
+    private int count;
+}
@@ -0,0 +1,13 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ImportErrorDto {
+    private long line;       // 파일에서의 줄 번호 (1부터, CSV는 header 포함)
+    private String message;  // 실패 사유
+}
@@ -0,0 +1,18 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ImportResultDto {
+    private long totalCount;
+    private long successCount;
+    private long failureCount;
+    private List<ImportErrorDto> errors; // 실패한 줄 (최대 개수까지만)
+    private boolean errorsTruncated;     // 실패가 많아서 errors에 모두 담지 못한 경우 true
+}
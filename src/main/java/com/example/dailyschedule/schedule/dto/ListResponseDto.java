@@ -0,0 +1,37 @@
+package com.example.dailyschedule.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 목록 조회 응답
+ * PageImpl 을 그대로 내보내면 pageable, sort 정보까지 직렬화되기 때문에 필요한 값만 담는다.
+ * 다음 페이지가 없으면 nextPage / nextCursor 가 빠지고, 전체 개수를 세지 않은 경우(CountMode.NONE) totalCount 가 빠진다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ListResponseDto<T> {
+    private final List<T> items;
+    private final boolean hasNext;
+    private final Integer nextPage;   // offset 방식 (SearchDto.page 와 같은 1부터 시작하는 번호)
+    private final String nextCursor;  // cursor 방식
+    private final Long totalCount;
+
+    //offset 방식 (Page 면 전체 개수 포함)
+    public static <T> ListResponseDto<T> of(Slice<T> slice, SearchDto searchDto) {
+        Integer nextPage = slice.hasNext() ? Math.max(1, searchDto.getPage()) + 1 : null;
+        Long totalCount = slice instanceof Page<T> page ? page.getTotalElements() : null;
+        return new ListResponseDto<>(slice.getContent(), slice.hasNext(), nextPage, null, totalCount);
+    }
+
+    //cursor 방식
+    public static <T> ListResponseDto<T> of(CursorPageDto<T> cursorPage) {
+        return new ListResponseDto<>(cursorPage.getContent(), cursorPage.isHasNext(), null, cursorPage.getNextCursor(), null);
+    }
+}
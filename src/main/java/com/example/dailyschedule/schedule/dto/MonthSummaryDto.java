@@ -0,0 +1,18 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 회원의 한 달 스케줄 개수 (스케줄이 있는 날짜만 포함)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class MonthSummaryDto {
+    private Long memberId;
+    private String month;        // yyyy-MM
+    private long totalCount;
+    private List<DayCountDto> days;
+}
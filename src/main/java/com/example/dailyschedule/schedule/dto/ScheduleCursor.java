@@ -0,0 +1,47 @@
+package com.example.dailyschedule.schedule.dto;
+
+import com.example.dailyschedule.error.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+import static com.example.dailyschedule.error.type.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 마지막으로 조회한 (updated_at, id) 위치
+ * client에게는 Base64로 인코딩된 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleCursor {
+
+    private static final String NULL_VALUE = "-";
+
+    private final Timestamp updatedAt; // updated_at이 null인 row는 null
+    private final Long id;
+
+    public String encode() {
+        String updated = updatedAt != null ? String.valueOf(updatedAt.getTime()) : NULL_VALUE;
+        String raw = updated + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScheduleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+
+            Timestamp updatedAt = NULL_VALUE.equals(parts[0]) ? null : new Timestamp(Long.parseLong(parts[0]));
+            return new ScheduleCursor(updatedAt, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Base64 형식 오류, 숫자 형식 오류(NumberFormatException) 모두 포함
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+}
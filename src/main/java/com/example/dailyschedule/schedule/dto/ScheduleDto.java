@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
 
 
 @NoArgsConstructor
@@ -22,5 +24,11 @@ public class ScheduleDto {
     private Date createdAt; //생성 날짜
     private Date updatedAt; //수정 날짜
     private Date deletedAt; //삭제 날짜
+    private String recurrenceRule; //반복 규칙 (예: FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10), 시작일은 createdAt
+    private List<Date> recurrenceExceptions; //반복에서 제외할 날짜
+    private Date occurrenceDate; //반복 스케줄을 날짜로 조회한 경우 해당 발생일
+    private Timestamp startAt; //시작 시각
+    private Timestamp endAt; //종료 시각 (같은 회원의 다른 스케줄과 겹치면 생성/수정 실패)
+    private Timestamp modifiedAt; //조건부 GET 용 변경 시각 (응답에는 포함하지 않음)
     private MemberDto memberDto;
 }
@@ -0,0 +1,96 @@
+package com.example.dailyschedule.schedule.dto;
+
+import com.example.dailyschedule.member.dto.MemberDtoSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * ScheduleDto 응답 직렬화
+ * 목록 응답에서 항목 수 만큼 호출되기 때문에 reflection 없이 필드를 직접 쓴다.
+ * password (스케줄, 회원) 는 응답에 포함하지 않고, null 인 필드는 생략한다.
+ */
+public class ScheduleDtoSerializer extends StdSerializer<ScheduleDto> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString DELETED_AT = new SerializedString("deletedAt");
+    private static final SerializedString RECURRENCE_RULE = new SerializedString("recurrenceRule");
+    private static final SerializedString RECURRENCE_EXCEPTIONS = new SerializedString("recurrenceExceptions");
+    private static final SerializedString OCCURRENCE_DATE = new SerializedString("occurrenceDate");
+    private static final SerializedString START_AT = new SerializedString("startAt");
+    private static final SerializedString END_AT = new SerializedString("endAt");
+    private static final SerializedString MEMBER = new SerializedString("memberDto");
+
+    private final MemberDtoSerializer memberDtoSerializer;
+
+    public ScheduleDtoSerializer(MemberDtoSerializer memberDtoSerializer) {
+        super(ScheduleDto.class);
+        this.memberDtoSerializer = memberDtoSerializer;
+    }
+
+    @Override
+    public void serialize(ScheduleDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        if (value.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+        }
+        writeString(gen, TITLE, value.getTitle());
+        writeString(gen, AUTHOR, value.getAuthor());
+        writeString(gen, DESCRIPTION, value.getDescription());
+        writeDate(gen, CREATED_AT, value.getCreatedAt());
+        writeDate(gen, UPDATED_AT, value.getUpdatedAt());
+        writeDate(gen, DELETED_AT, value.getDeletedAt());
+        writeString(gen, RECURRENCE_RULE, value.getRecurrenceRule());
+        if (value.getRecurrenceExceptions() != null && !value.getRecurrenceExceptions().isEmpty()) {
+            gen.writeFieldName(RECURRENCE_EXCEPTIONS);
+            gen.writeStartArray();
+            for (Date exception : value.getRecurrenceExceptions()) {
+                gen.writeString(exception.toString());
+            }
+            gen.writeEndArray();
+        }
+        writeDate(gen, OCCURRENCE_DATE, value.getOccurrenceDate());
+        writeTimestamp(gen, provider, START_AT, value.getStartAt());
+        writeTimestamp(gen, provider, END_AT, value.getEndAt());
+        if (value.getMemberDto() != null) {
+            // 회원은 provider 에서 serializer 를 찾지 않고 바로 위임
+            gen.writeFieldName(MEMBER);
+            memberDtoSerializer.serialize(value.getMemberDto(), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    // java.sql.Date 기본 직렬화와 같은 yyyy-MM-dd
+    private static void writeDate(JsonGenerator gen, SerializedString name, Date value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value.toString());
+        }
+    }
+
+    // 시각은 ObjectMapper 의 날짜 설정(기본 직렬화)과 같은 형식
+    private static void writeTimestamp(JsonGenerator gen, SerializerProvider provider, SerializedString name, Timestamp value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeDateValue(value, gen);
+        }
+    }
+}
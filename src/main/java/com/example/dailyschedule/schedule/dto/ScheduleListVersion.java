@@ -0,0 +1,19 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * 목록 조회의 validator
+ * 가장 최근 modified_at (스케줄, 회원) 으로 목록이 바뀌었는지 판단한다.
+ * 삭제는 삭제 표시 (modified_at 갱신) 로, 삭제 표시된 row 의 purge 는 purgedAt 으로 구분한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleListVersion {
+    private final Timestamp scheduleModifiedAt; // 스케줄이 없으면 null
+    private final Timestamp memberModifiedAt;   // 회원이 없으면 null
+    private final Timestamp purgedAt;           // 마지막 purge 시각
+}
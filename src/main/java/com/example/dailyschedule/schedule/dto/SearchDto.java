@@ -3,9 +3,11 @@ package com.example.dailyschedule.schedule.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 
 @AllArgsConstructor
 @Getter
+@Setter
 @Builder
 public class SearchDto {
     @Builder.Default
@@ -14,11 +16,15 @@ public class SearchDto {
     private int pageSize = 10;    // 기본 페이지 크기
     @Builder.Default
     private int recordSize = 10;  // 페이지당 기본 출력 개수
+    private String cursor;        // cursor 방식 조회시 이어서 조회할 위치 (null이면 첫 페이지)
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT; // 전체 개수 조회 방식
 
     public SearchDto() {
         this.page = 1;
         this.pageSize = 10;
         this.recordSize = 10;
+        this.countMode = CountMode.EXACT;
     }
 
     public int getLimit() {
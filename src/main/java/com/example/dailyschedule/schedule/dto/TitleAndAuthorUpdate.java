@@ -0,0 +1,19 @@
+package com.example.dailyschedule.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Date;
+
+/**
+ * 비밀번호가 일치할 때만 실행하는 제목, 작성자 수정 1건
+ */
+@Getter
+@AllArgsConstructor
+public class TitleAndAuthorUpdate {
+    private final Long id;
+    private final String password;
+    private final String title;
+    private final String author;
+    private final Date updatedAt;
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 
 
 @Getter
@@ -22,5 +23,11 @@ public class Schedule {
     private Date createdAt; //생성 날짜
     private Date updatedAt; //수정 날짜
     private Date deletedAt; //삭제 날짜
+    private String recurrenceRule; //반복 규칙 (RRULE, 반복이 아니면 null)
+    private String recurrenceExceptions; //반복에서 제외할 날짜 (yyyy-MM-dd 를 , 로 연결)
+    private Date recurrenceUntil; //마지막 발생일 (끝이 없으면 9999-12-31)
+    private Timestamp startAt; //시작 시각 (시간이 없는 스케줄은 null)
+    private Timestamp endAt; //종료 시각 (시작 시각 이후, 구간은 [startAt, endAt))
+    private Timestamp modifiedAt; //조건부 GET 용 변경 시각 (단건 조회에서만, 스케줄과 회원 중 늦은 시각)
     private Member member;
 }
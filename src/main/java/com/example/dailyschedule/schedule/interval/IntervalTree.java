@@ -0,0 +1,206 @@
+package com.example.dailyschedule.schedule.interval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [start, end) 구간 트리 (augmented AVL tree)
+ * (start, id) 순서로 정렬하고, 노드마다 하위 트리의 가장 늦은 end(maxEnd)를 같이 저장한다.
+ * 겹치는 구간 조회는 maxEnd 가 from 이하인 하위 트리와 start 가 to 이상인 오른쪽 하위 트리를 건너뛰기 때문에
+ * O(log n + k) 이다. (k = 겹치는 구간 수)
+ * thread-safe 하지 않음 (lock 은 ScheduleIntervalIndex 가 담당)
+ */
+public class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final long id;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.maxEnd = end;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 같은 (start, id) 가 이미 있으면 end 를 교체
+    public void insert(long id, long start, long end) {
+        root = insert(root, id, start, end);
+    }
+
+    public void remove(long id, long start) {
+        root = remove(root, id, start);
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * [from, to) 와 겹치는 (start < to && end > from) 구간의 id 를 start, id 순서로 최대 limit 개 반환
+     */
+    public List<Long> findOverlapping(long from, long to, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (from < to && limit > 0) {
+            collect(root, from, to, limit, ids);
+        }
+        return ids;
+    }
+
+    // limit 개를 채우면 false (더 순회하지 않음)
+    private static boolean collect(Node node, long from, long to, int limit, List<Long> ids) {
+        // 하위 트리의 모든 구간이 from 이전에 끝남
+        if (node == null || node.maxEnd <= from) {
+            return true;
+        }
+        if (!collect(node.left, from, to, limit, ids)) {
+            return false;
+        }
+        // 이 노드와 오른쪽 하위 트리는 모두 to 이후에 시작
+        if (node.start >= to) {
+            return true;
+        }
+        if (node.end > from) {
+            ids.add(node.id);
+            if (ids.size() >= limit) {
+                return false;
+            }
+        }
+        return collect(node.right, from, to, limit, ids);
+    }
+
+    private Node insert(Node node, long id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(start, end, id);
+        }
+
+        int compare = compare(start, id, node);
+        if (compare == 0) {
+            Node replaced = new Node(start, end, id);
+            replaced.left = node.left;
+            replaced.right = node.right;
+            return update(replaced);
+        }
+        if (compare < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else {
+            node.right = insert(node.right, id, start, end);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+
+        int compare = compare(start, id, node);
+        if (compare < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (compare > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            // 오른쪽 하위 트리의 가장 작은 노드로 교체
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replaced = new Node(successor.start, successor.end, successor.id);
+            replaced.right = removeMin(node.right);
+            replaced.left = node.left;
+            return balance(replaced);
+        }
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.id);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        return update(pivot);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        return update(pivot);
+    }
+
+    private static Node update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.dailyschedule.schedule.interval;
+
+import com.example.dailyschedule.common.transaction.TransactionHooks;
+import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원별 스케줄 시간 구간 (start_at, end_at) in-memory 색인
+ * - 시간이 있는 스케줄만 streaming 으로 읽어서 web server 가 요청을 받기 전에 생성 (빈 색인으로 중복 예약 검사를 통과하지 않도록)
+ * - 생성/수정/삭제시 변경된 스케줄만 반영
+ * - 겹치는 스케줄 조회와 생성/수정시 중복 예약 검사를 DB range scan 없이 O(log n + k) 로 처리
+ * 반복 스케줄은 첫 발생의 시간만 색인한다. (이후 발생일은 검사하지 않음)
+ */
+@Slf4j
+@Component
+public class ScheduleIntervalIndex implements SmartInitializingSingleton {
+
+    // 회원 id -> 구간 트리
+    private final Map<Long, MemberIntervals> members = new ConcurrentHashMap<>();
+    // 스케줄 id -> 색인된 구간 (수정/삭제시 기존 구간 제거용)
+    private final Map<Long, IndexedInterval> intervals = new ConcurrentHashMap<>();
+    // 쓰기끼리만 순서를 보장 (조회는 회원 트리의 read lock 만 사용)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final ScheduleRepositoryImpl scheduleRepositoryImpl;
+
+    public ScheduleIntervalIndex(ScheduleRepositoryImpl scheduleRepositoryImpl) {
+        this.scheduleRepositoryImpl = scheduleRepositoryImpl;
+    }
+
+    private record IndexedInterval(Long memberId, long start, long end) {
+    }
+
+    private static final class MemberIntervals {
+        // rebuild 시 lock 객체는 유지하고 트리만 교체 (write lock 안에서만 변경)
+        private IntervalTree tree = new IntervalTree();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // 중복 예약 검사 ~ commit 까지 같은 회원의 다른 쓰기를 막는 lock
+        private final ReentrantLock conflictLock = new ReentrantLock();
+    }
+
+    // singleton 생성 직후 (web server 시작 전) 에 생성, 실패하면 애플리케이션이 시작되지 않음
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 새 트리를 따로 만든 뒤 회원별로 교체
+     * MemberIntervals 를 새로 만들지 않기 때문에 진행 중인 트랜잭션이 잡고 있는 conflictLock 이 그대로 유지된다.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            Map<Long, IntervalTree> trees = new HashMap<>();
+            Map<Long, IndexedInterval> built = new HashMap<>();
+            scheduleRepositoryImpl.streamScheduleIntervals(schedule -> {
+                IndexedInterval interval = toInterval(schedule);
+                if (interval == null) {
+                    return;
+                }
+                trees.computeIfAbsent(interval.memberId(), id -> new IntervalTree())
+                        .insert(schedule.getId(), interval.start(), interval.end());
+                built.put(schedule.getId(), interval);
+            });
+
+            members.forEach((memberId, memberIntervals) -> {
+                if (!trees.containsKey(memberId)) {
+                    replaceTree(memberIntervals, new IntervalTree());
+                }
+            });
+            trees.forEach((memberId, tree) -> replaceTree(members.computeIfAbsent(memberId, id -> new MemberIntervals()), tree));
+            intervals.clear();
+            intervals.putAll(built);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("스케줄 시간 색인 생성 완료 : {}건, {}ms", intervals.size(), System.currentTimeMillis() - start);
+    }
+
+    // 생성 / 전체 수정 (시간이 없어진 경우 기존 구간 제거)
+    public void index(Schedule schedule) {
+        if (schedule == null || schedule.getId() == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                put(schedule);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                removeInterval(id);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // 회원 삭제시 회원의 스케줄 구간 전부 제거
+    // (트리만 비우고 MemberIntervals 는 유지, 다른 요청이 잡고 있는 conflictLock 이 교체되지 않도록)
+    public void removeByMember(Long memberId) {
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                MemberIntervals memberIntervals = members.get(memberId);
+                if (memberIntervals == null) {
+                    return;
+                }
+                memberIntervals.lock.writeLock().lock();
+                try {
+                    memberIntervals.tree.clear();
+                } finally {
+                    memberIntervals.lock.writeLock().unlock();
+                }
+                intervals.values().removeIf(interval -> memberId.equals(interval.memberId()));
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 회원의 [from, to) 와 겹치는 스케줄 id (시작 시각, id 순서로 최대 limit 개)
+     */
+    public List<Long> findOverlapping(Long memberId, Timestamp from, Timestamp to, int limit) {
+        MemberIntervals memberIntervals = members.get(memberId);
+        if (memberIntervals == null) {
+            return List.of();
+        }
+
+        memberIntervals.lock.readLock().lock();
+        try {
+            return memberIntervals.tree.findOverlapping(from.getTime(), to.getTime(), limit);
+        } finally {
+            memberIntervals.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원의 다른 스케줄과 [start, end) 가 겹치면 SCHEDULE_CONFLICT (excludeId 는 수정하는 스케줄 자신)
+     * 검사와 commit 사이에 같은 회원의 다른 요청이 끼어들지 않도록 트랜잭션 안이면 트랜잭션이 끝날 때까지 회원 lock 을 잡는다.
+     * (색인 반영은 afterCommit 이라 lock 이 풀리기 전에 끝남, 여러 서버 사이의 동시 요청은 막지 못함)
+     */
+    public void checkConflict(Long memberId, Long excludeId, Timestamp start, Timestamp end) {
+        if (memberId == null || start == null || end == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ReentrantLock conflictLock = members.computeIfAbsent(memberId, id -> new MemberIntervals()).conflictLock;
+            conflictLock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    conflictLock.unlock();
+                }
+            });
+        }
+
+        if (overlaps(memberId, excludeId, start, end)) {
+            throw new CustomException(ErrorCode.SCHEDULE_CONFLICT);
+        }
+    }
+
+    // 자기 자신을 제외하고 겹치는 스케줄이 있는지 (자신 외에 하나만 더 찾으면 됨)
+    private boolean overlaps(Long memberId, Long excludeId, Timestamp start, Timestamp end) {
+        return findOverlapping(memberId, start, end, 2).stream()
+                .anyMatch(id -> !id.equals(excludeId));
+    }
+
+    private void put(Schedule schedule) {
+        removeInterval(schedule.getId());
+
+        IndexedInterval interval = toInterval(schedule);
+        if (interval == null) {
+            return;
+        }
+
+        MemberIntervals memberIntervals = members.computeIfAbsent(interval.memberId(), id -> new MemberIntervals());
+        memberIntervals.lock.writeLock().lock();
+        try {
+            memberIntervals.tree.insert(schedule.getId(), interval.start(), interval.end());
+        } finally {
+            memberIntervals.lock.writeLock().unlock();
+        }
+        intervals.put(schedule.getId(), interval);
+    }
+
+    private void removeInterval(Long id) {
+        IndexedInterval interval = intervals.remove(id);
+        if (interval == null) {
+            return;
+        }
+
+        MemberIntervals memberIntervals = members.get(interval.memberId());
+        if (memberIntervals == null) {
+            return;
+        }
+        memberIntervals.lock.writeLock().lock();
+        try {
+            memberIntervals.tree.remove(id, interval.start());
+        } finally {
+            memberIntervals.lock.writeLock().unlock();
+        }
+    }
+
+    // 회원이나 시간이 없으면 색인하지 않음
+    private static IndexedInterval toInterval(Schedule schedule) {
+        Long memberId = schedule.getMember() != null ? schedule.getMember().getId() : null;
+        if (memberId == null || schedule.getStartAt() == null || schedule.getEndAt() == null) {
+            return null;
+        }
+        return new IndexedInterval(memberId, schedule.getStartAt().getTime(), schedule.getEndAt().getTime());
+    }
+
+    private static void replaceTree(MemberIntervals memberIntervals, IntervalTree tree) {
+        memberIntervals.lock.writeLock().lock();
+        try {
+            memberIntervals.tree = tree;
+        } finally {
+            memberIntervals.lock.writeLock().unlock();
+        }
+    }
+}
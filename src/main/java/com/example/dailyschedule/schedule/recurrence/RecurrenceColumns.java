@@ -0,0 +1,54 @@
+package com.example.dailyschedule.schedule.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 날짜 조회에서 반복 스케줄을 SQL 로 바로 고르기 위한 컬럼 (규칙과 시작일로 계산해서 스케줄과 같이 저장)
+ * - period : 시작일이 속한 주기 번호 (DAILY 는 epoch day, WEEKLY 는 월요일의 epoch day / 7, MONTHLY 는 year * 12 + month - 1, YEARLY 는 year)
+ * - weekdays : 발생할 수 있는 요일 bitmask (월요일 1, 화요일 2, ... 일요일 64)
+ * - month, monthDay : 발생할 수 있는 월, 일 (없으면 null)
+ * 조회 날짜의 주기 번호 - period 가 interval 의 배수이고 요일, 월, 일이 맞으면 발생일이다.
+ * (시작일, 마지막 발생일, 예외 날짜는 기존 컬럼으로 따로 확인, RecurrenceRule.occursOn 과 같은 결과)
+ */
+public record RecurrenceColumns(String frequency, int interval, long period, int weekdays, Integer month, Integer monthDay) {
+
+    public static final int ALL_WEEKDAYS = 0b1111111;
+
+    public static RecurrenceColumns of(RecurrenceRule rule, LocalDate start) {
+        RecurrenceRule.Frequency frequency = rule.getFrequency();
+        int weekdays = switch (frequency) {
+            case WEEKLY -> rule.getByDay().isEmpty() ? weekdayBit(start.getDayOfWeek()) : weekdayBits(rule);
+            // 간격이 7일의 배수면 시작일과 같은 요일에만 발생
+            case DAILY -> rule.getInterval() % 7 == 0 ? weekdayBit(start.getDayOfWeek()) : ALL_WEEKDAYS;
+            case MONTHLY, YEARLY -> ALL_WEEKDAYS;
+        };
+        Integer month = frequency == RecurrenceRule.Frequency.YEARLY ? start.getMonthValue() : null;
+        Integer monthDay = frequency == RecurrenceRule.Frequency.MONTHLY || frequency == RecurrenceRule.Frequency.YEARLY
+                ? start.getDayOfMonth() : null;
+        return new RecurrenceColumns(frequency.name(), rule.getInterval(), periodOf(frequency, start), weekdays, month, monthDay);
+    }
+
+    // date 가 속한 주기 번호
+    public static long periodOf(RecurrenceRule.Frequency frequency, LocalDate date) {
+        return switch (frequency) {
+            case DAILY -> date.toEpochDay();
+            case WEEKLY -> Math.floorDiv(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay(), 7);
+            case MONTHLY -> date.getYear() * 12L + date.getMonthValue() - 1;
+            case YEARLY -> date.getYear();
+        };
+    }
+
+    public static int weekdayBit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    private static int weekdayBits(RecurrenceRule rule) {
+        int bits = 0;
+        for (DayOfWeek day : rule.getByDay()) {
+            bits |= weekdayBit(day);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.dailyschedule.schedule.recurrence;
+
+import com.example.dailyschedule.error.CustomException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static com.example.dailyschedule.error.type.ErrorCode.INVALID_RECURRENCE;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 중 일부)
+ * FREQ=DAILY|WEEKLY|MONTHLY|YEARLY, INTERVAL, COUNT 또는 UNTIL (yyyyMMdd, yyyy-MM-dd), BYDAY (WEEKLY 만, MO,TU,...)
+ * 시작일은 스케줄의 created_at 이고, 발생일은 저장하지 않고 조회하는 범위만 순서대로 계산한다.
+ * MONTHLY / YEARLY 는 시작일과 같은 날짜가 없는 달(31일, 2월 29일)은 건너뛴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecurrenceRule {
+
+    public static final int MAX_COUNT = 10_000;
+
+    // 끝나지 않는 반복의 recurrence_until 값 (발생일 계산도 여기까지만)
+    public static final LocalDate NO_END = LocalDate.of(9999, 12, 31);
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final List<DayOfWeek> byDay; // 월요일부터 순서대로, WEEKLY 외에는 비어있음
+
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new CustomException(INVALID_RECURRENCE);
+        }
+
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        try {
+            for (String part : body.split(";")) {
+                if (part.isBlank()) {
+                    continue;
+                }
+                int separator = part.indexOf('=');
+                if (separator <= 0) {
+                    throw new CustomException(INVALID_RECURRENCE);
+                }
+
+                String value = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+                switch (part.substring(0, separator).trim().toUpperCase(Locale.ROOT)) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseDate(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(dayOf(day.trim()));
+                        }
+                    }
+                    default -> throw new CustomException(INVALID_RECURRENCE);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // 숫자, 날짜, FREQ 형식 오류
+            throw new CustomException(INVALID_RECURRENCE);
+        }
+
+        boolean invalid = frequency == null
+                || interval < 1
+                || (count != null && (count < 1 || count > MAX_COUNT))
+                || (count != null && until != null)
+                || (!byDay.isEmpty() && frequency != Frequency.WEEKLY);
+        if (invalid) {
+            throw new CustomException(INVALID_RECURRENCE);
+        }
+        return new RecurrenceRule(frequency, interval, count, until, List.copyOf(byDay));
+    }
+
+    // 저장용 문자열 (항목 순서, 대소문자를 맞춘 형태)
+    public String format() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval > 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            rule.append(";BYDAY=").append(byDay.stream()
+                    .map(day -> day.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(until.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * 마지막 발생일 (recurrence_until 컬럼, 날짜 조회시 후보를 줄이는 용도)
+     * UNTIL 이면 UNTIL, COUNT 면 COUNT 번째 발생일, 둘 다 없으면 NO_END
+     */
+    public LocalDate lastDate(LocalDate start) {
+        if (until != null) {
+            return until;
+        }
+        if (count == null) {
+            return NO_END;
+        }
+
+        LocalDate last = start;
+        Iterator<LocalDate> occurrences = occurrences(start, Collections.emptySet(), start);
+        while (occurrences.hasNext()) {
+            last = occurrences.next();
+        }
+        return last;
+    }
+
+    /**
+     * from 이후의 발생일을 순서대로 하나씩 계산 (예외 날짜 제외)
+     * COUNT 가 없으면 from 이 속한 주기부터 바로 계산하고, COUNT 가 있으면 개수를 세야 하기 때문에 시작일부터 계산한다.
+     */
+    public Iterator<LocalDate> occurrences(LocalDate start, Set<LocalDate> exceptions, LocalDate from) {
+        long firstPeriod = count == null && from.isAfter(start) ? periodOf(start, from) : 0;
+        return new OccurrenceIterator(start, exceptions, from, firstPeriod);
+    }
+
+    public boolean occursOn(LocalDate start, Set<LocalDate> exceptions, LocalDate date) {
+        Iterator<LocalDate> occurrences = occurrences(start, exceptions, date);
+        return occurrences.hasNext() && occurrences.next().equals(date);
+    }
+
+    // 예외 날짜 컬럼 (yyyy-MM-dd 를 , 로 연결)
+    public static Set<LocalDate> parseExceptions(String exceptions) {
+        if (exceptions == null || exceptions.isBlank()) {
+            return Collections.emptySet();
+        }
+        try {
+            return Arrays.stream(exceptions.split(","))
+                    .map(String::trim)
+                    .filter(date -> !date.isEmpty())
+                    .map(LocalDate::parse)
+                    .collect(Collectors.toCollection(TreeSet::new));
+        } catch (DateTimeException e) {
+            throw new CustomException(INVALID_RECURRENCE);
+        }
+    }
+
+    public static String formatExceptions(Collection<LocalDate> exceptions) {
+        if (exceptions == null || exceptions.isEmpty()) {
+            return null;
+        }
+        return new TreeSet<>(exceptions).stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    // from 이 속한 주기 번호 (시작일이 속한 주기가 0)
+    private long periodOf(LocalDate start, LocalDate from) {
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(from));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from));
+            case YEARLY -> from.getYear() - start.getYear();
+        };
+        return Math.floorDiv(units, interval);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDate parseDate(String value) {
+        // 20241231, 20241231T000000Z, 2024-12-31
+        if (value.indexOf('-') < 0 && value.length() >= 8) {
+            return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+        }
+        return LocalDate.parse(value);
+    }
+
+    private static DayOfWeek dayOf(String day) {
+        return switch (day) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException(day);
+        };
+    }
+
+    /**
+     * 주기 단위로 후보 날짜를 만들고, 시작일 이전 / COUNT, UNTIL 이후 / from 이전 / 예외 날짜를 걸러낸다.
+     * COUNT 는 RFC 5545 와 같이 예외 날짜도 포함해서 센다.
+     */
+    private final class OccurrenceIterator implements Iterator<LocalDate> {
+
+        private final LocalDate start;
+        private final Set<LocalDate> exceptions;
+        private final LocalDate from;
+        private final LocalDate last;
+        private final Deque<LocalDate> candidates = new ArrayDeque<>();
+
+        private long period;
+        private int generated;
+        private LocalDate next;
+        private boolean done;
+
+        private OccurrenceIterator(LocalDate start, Set<LocalDate> exceptions, LocalDate from, long firstPeriod) {
+            this.start = start;
+            this.exceptions = exceptions;
+            this.from = from;
+            this.last = until != null ? until : NO_END;
+            this.period = firstPeriod;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDate occurrence = next;
+            next = null;
+            return occurrence;
+        }
+
+        private LocalDate advance() {
+            while (true) {
+                if (candidates.isEmpty()) {
+                    if (!fillPeriod(period++)) {
+                        done = true;
+                        return null;
+                    }
+                    continue;
+                }
+
+                LocalDate candidate = candidates.poll();
+                if (candidate.isBefore(start)) {
+                    continue;
+                }
+                if (candidate.isAfter(last) || (count != null && ++generated > count)) {
+                    done = true;
+                    return null;
+                }
+                if (candidate.isBefore(from) || exceptions.contains(candidate)) {
+                    continue;
+                }
+                return candidate;
+            }
+        }
+
+        // 주기 하나의 후보 날짜, 주기 시작이 마지막 날짜를 지나면 false
+        private boolean fillPeriod(long index) {
+            long amount = index * interval;
+            switch (frequency) {
+                case DAILY -> {
+                    LocalDate day = start.plusDays(amount);
+                    if (day.isAfter(last)) {
+                        return false;
+                    }
+                    candidates.add(day);
+                }
+                case WEEKLY -> {
+                    LocalDate monday = weekStart(start).plusWeeks(amount);
+                    if (monday.isAfter(last)) {
+                        return false;
+                    }
+                    if (byDay.isEmpty()) {
+                        candidates.add(monday.plusDays(start.getDayOfWeek().getValue() - 1));
+                    } else {
+                        byDay.forEach(day -> candidates.add(monday.plusDays(day.getValue() - 1)));
+                    }
+                }
+                case MONTHLY -> {
+                    YearMonth month = YearMonth.from(start).plusMonths(amount);
+                    if (month.atDay(1).isAfter(last)) {
+                        return false;
+                    }
+                    if (month.isValidDay(start.getDayOfMonth())) {
+                        candidates.add(month.atDay(start.getDayOfMonth()));
+                    }
+                }
+                case YEARLY -> {
+                    long year = start.getYear() + amount;
+                    if (year > last.getYear()) {
+                        return false;
+                    }
+                    MonthDay monthDay = MonthDay.from(start);
+                    if (monthDay.isValidYear((int) year)) {
+                        candidates.add(monthDay.atYear((int) year));
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.dailyschedule.schedule.repository;
+
+import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import io.r2dbc.spi.Row;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스케줄 조회 전용 non-blocking repository (R2DBC)
+ * ScheduleRepositoryImpl 의 조회 메서드와 같은 조건/정렬을 사용하고,
+ * 목록은 COUNT 없이 Flux로 반환해서 구독자가 요청한 만큼만 row를 받아온다. (backpressure)
+ */
+@Repository
+@ConditionalOnProperty(name = "schedule.reactive.enabled", havingValue = "true")
+public class ReactiveScheduleRepository {
+
+    // 목록 조회용 컬럼 (스케줄, 회원 비밀번호 제외)
+    private static final String LIST_COLUMNS = """
+                s.id, s.title, s.author, s.description, s.created_at, s.updated_at, s.deleted_at,
+                       m.id AS member_id, m.user_id AS user_id, m.name AS member_name,
+                       m.email AS member_email, m.updated_at AS member_updated_at
+            """;
+
+    private static final String SELECT_SCHEDULE_LIST =
+            "SELECT " + LIST_COLUMNS + " FROM schedule s LEFT JOIN member m ON s.member_id = m.id";
+
+    private static final String SELECT_SCHEDULE_DETAIL =
+            "SELECT " + LIST_COLUMNS + ", s.password FROM schedule s LEFT JOIN member m ON s.member_id = m.id";
+
+    // 삭제 표시된 스케줄 / 회원 제외 (ScheduleRepositoryImpl 과 같은 조건)
+    private static final String LIVE = "s.deleted_at IS NULL AND m.deleted_at IS NULL";
+
+    // 목록 정렬 (ScheduleRepositoryImpl 과 같은 순서, 같은 updated_at 은 id 로 구분)
+    private static final String ORDER_BY_UPDATED_DESC = " ORDER BY s.updated_at DESC, s.id DESC";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveScheduleRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    public Mono<Schedule> findScheduleById(Long id) {
+        return databaseClient.sql(SELECT_SCHEDULE_DETAIL + " WHERE s.id = :id AND " + LIVE)
+                .bind("id", id)
+                .map((row, metadata) -> mapSchedule(row, true))
+                .one();
+    }
+
+    public Flux<Schedule> findAllOrderByUpdatedDateDesc(SearchDto searchDto) {
+        return databaseClient.sql(SELECT_SCHEDULE_LIST + " WHERE " + LIVE + ORDER_BY_UPDATED_DESC + " LIMIT :limit OFFSET :offset")
+                .bind("limit", searchDto.getLimit())
+                .bind("offset", searchDto.getOffset())
+                .map((row, metadata) -> mapSchedule(row, false))
+                .all();
+    }
+
+    public Flux<Schedule> findSchedulesByUpdatedDateAndAuthor(Date updatedAt, String author, SearchDto searchDto) {
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_LIST).append(" WHERE ").append(LIVE);
+        Map<String, Object> params = new HashMap<>();
+
+        // [해당 날짜 00:00, 다음 날 00:00) 범위로 조회해서 index 사용
+        if (updatedAt != null) {
+            sql.append(" AND s.updated_at >= :start AND s.updated_at < :end");
+            params.put("start", updatedAt.toLocalDate().atStartOfDay());
+            params.put("end", updatedAt.toLocalDate().plusDays(1).atStartOfDay());
+        }
+
+        if (author != null) {
+            sql.append(" AND s.author = :author");
+            params.put("author", author);
+        }
+
+        sql.append(ORDER_BY_UPDATED_DESC).append(" LIMIT :limit OFFSET :offset");
+        params.put("limit", searchDto.getLimit());
+        params.put("offset", searchDto.getOffset());
+
+        return databaseClient.sql(sql.toString())
+                .bindValues(params)
+                .map((row, metadata) -> mapSchedule(row, false))
+                .all();
+    }
+
+    public Flux<Schedule> findSchedulesByMemberId(Long memberId, SearchDto searchDto) {
+        if (memberId == null) {
+            return Flux.error(new IllegalArgumentException("해당 회원 아이디가 존재하지 않습니다."));
+        }
+
+        return databaseClient.sql(SELECT_SCHEDULE_LIST + " WHERE s.member_id = :memberId AND " + LIVE + ORDER_BY_UPDATED_DESC + " LIMIT :limit OFFSET :offset")
+                .bind("memberId", memberId)
+                .bind("limit", searchDto.getLimit())
+                .bind("offset", searchDto.getOffset())
+                .map((row, metadata) -> mapSchedule(row, false))
+                .all();
+    }
+
+    private static Schedule mapSchedule(Row row, boolean withPassword) {
+        Member member = null;
+        Long memberId = row.get("member_id", Long.class);
+        if (memberId != null) {
+            member = Member.builder()
+                    .id(memberId)
+                    .userId(row.get("user_id", String.class))
+                    .name(row.get("member_name", String.class))
+                    .email(row.get("member_email", String.class))
+                    .updatedAt(toDate(row.get("member_updated_at", LocalDateTime.class)))
+                    .build();
+        }
+
+        return Schedule.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .author(row.get("author", String.class))
+                .password(withPassword ? row.get("password", String.class) : null)
+                .description(row.get("description", String.class))
+                .createdAt(toDate(row.get("created_at", LocalDateTime.class)))
+                .updatedAt(toDate(row.get("updated_at", LocalDateTime.class)))
+                .deletedAt(toDate(row.get("deleted_at", LocalDateTime.class)))
+                .member(member)
+                .build();
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime != null ? Date.valueOf(dateTime.toLocalDate()) : null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.dailyschedule.schedule.repository;
+
+import com.example.dailyschedule.schedule.dto.DayCountDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 회원별 날짜별 스케줄 개수 (schedule_day_count)
+ * 스케줄 생성/수정/삭제와 같은 트랜잭션에서 ScheduleRepositoryImpl 이 호출한다.
+ * 날짜는 Java에서 계산하지 않고 항상 DB의 DATE(created_at)을 사용 (timezone 변환 차이 방지)
+ */
+@Repository
+public class ScheduleDayCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScheduleDayCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 해당 스케줄들의 (회원, 날짜) 개수 증가 - INSERT 이후 / 수정 이후 호출
+    public void incrementFor(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(scheduleIds.size(), "?"));
+        String sql = """
+                INSERT INTO schedule_day_count (member_id, day, schedule_count)
+                SELECT * FROM (
+                    SELECT member_id, DATE(created_at) AS day, COUNT(*) AS cnt
+                      FROM schedule
+                     WHERE member_id IS NOT NULL AND id IN (%s)
+                     GROUP BY member_id, DATE(created_at)
+                ) AS added
+                ON DUPLICATE KEY UPDATE schedule_count = schedule_count + added.cnt
+                """.formatted(placeholders);
+        jdbcTemplate.update(sql, scheduleIds.toArray());
+    }
+
+    // 해당 스케줄의 (회원, 날짜) 개수 감소 - 삭제 / 수정 이전 호출, 이미 삭제 표시된 스케줄은 제외
+    public int decrementFor(Long scheduleId) {
+        String sql = """
+                UPDATE schedule_day_count c
+                  JOIN schedule s ON c.member_id = s.member_id AND c.day = DATE(s.created_at)
+                   SET c.schedule_count = c.schedule_count - 1
+                 WHERE s.id = ? AND s.deleted_at IS NULL
+                """;
+        return jdbcTemplate.update(sql, scheduleId);
+    }
+
+    // 비밀번호가 일치하는 경우에만 감소 (조건부 삭제와 같은 조건)
+    public int decrementIfPasswordMatches(Long scheduleId, String password) {
+        String sql = """
+                UPDATE schedule_day_count c
+                  JOIN schedule s ON c.member_id = s.member_id AND c.day = DATE(s.created_at)
+                   SET c.schedule_count = c.schedule_count - 1
+                 WHERE s.id = ? AND CAST(s.password AS BINARY) = CAST(? AS BINARY) AND s.deleted_at IS NULL
+                """;
+        return jdbcTemplate.update(sql, scheduleId, password);
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM schedule_day_count");
+    }
+
+    // [from, to) 기간의 날짜별 개수 - PK (member_id, day) range scan
+    public List<DayCountDto> findDayCounts(Long memberId, Date from, Date to) {
+        String sql = """
+                SELECT day, schedule_count
+                  FROM schedule_day_count
+                 WHERE member_id = ? AND day >= ? AND day < ? AND schedule_count > 0
+                   AND EXISTS (SELECT 1 FROM member WHERE id = ? AND deleted_at IS NULL)
+                 ORDER BY day
+                """;
+        // 삭제 표시된 회원은 purge 전이라도 빈 결과
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new DayCountDto(rs.getDate(1), rs.getInt(2)), memberId, from, to, memberId);
+    }
+
+    // 회원 id [fromMemberId, toMemberId) 범위의 개수를 schedule 테이블 기준으로 다시 계산
+    public int rebuild(long fromMemberId, long toMemberId) {
+        jdbcTemplate.update("DELETE FROM schedule_day_count WHERE member_id >= ? AND member_id < ?", fromMemberId, toMemberId);
+
+        String sql = """
+                INSERT INTO schedule_day_count (member_id, day, schedule_count)
+                SELECT member_id, DATE(created_at), COUNT(*)
+                  FROM schedule
+                 WHERE member_id >= ? AND member_id < ? AND deleted_at IS NULL
+                 GROUP BY member_id, DATE(created_at)
+                """;
+        return jdbcTemplate.update(sql, fromMemberId, toMemberId);
+    }
+
+    public Long findMaxMemberId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM member", Long.class);
+    }
+}
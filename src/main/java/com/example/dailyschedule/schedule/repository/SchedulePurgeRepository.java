@@ -0,0 +1,69 @@
+package com.example.dailyschedule.schedule.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제 표시(deleted_at)된 스케줄 / 회원의 실제 row 삭제 (SchedulePurgeJob 에서 사용)
+ * 한번에 limit 개의 PK 만 삭제해서 statement 마다 lock 범위를 작게 유지한다.
+ * 기준 시각은 DB 의 CURRENT_TIMESTAMP 로 계산 (deleted_at 과 같은 timezone)
+ */
+@Repository
+public class SchedulePurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulePurgeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 삭제 표시 후 graceSeconds 가 지난 스케줄 id (idx_schedule_deleted_at range scan)
+    public List<Long> findPurgeableScheduleIds(long graceSeconds, int limit) {
+        String sql = """
+                SELECT id FROM schedule
+                 WHERE deleted_at IS NOT NULL AND deleted_at <= CURRENT_TIMESTAMP - INTERVAL ? SECOND
+                 ORDER BY deleted_at
+                 LIMIT ?
+                """;
+        return jdbcTemplate.queryForList(sql, Long.class, graceSeconds, limit);
+    }
+
+    // 삭제 표시 후 graceSeconds 가 지난 회원 id
+    public List<Long> findPurgeableMemberIds(long graceSeconds, int limit) {
+        String sql = """
+                SELECT id FROM member
+                 WHERE deleted_at IS NOT NULL AND deleted_at <= CURRENT_TIMESTAMP - INTERVAL ? SECOND
+                 ORDER BY deleted_at
+                 LIMIT ?
+                """;
+        return jdbcTemplate.queryForList(sql, Long.class, graceSeconds, limit);
+    }
+
+    // 삭제된 회원의 스케줄 id (member_id index 사용, 삭제 표시 여부와 상관없이 전부)
+    public List<Long> findScheduleIdsOfMember(Long memberId, int limit) {
+        String sql = "SELECT id FROM schedule WHERE member_id = ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, memberId, limit);
+    }
+
+    // 목록 ETag 가 purge 이전 값으로 돌아가지 않도록 row 를 지우기 전에 갱신 (ScheduleRepositoryImpl.findListVersion)
+    public void touchWatermark() {
+        jdbcTemplate.update("UPDATE purge_watermark SET purged_at = CURRENT_TIMESTAMP(3) WHERE id = 1");
+    }
+
+    public int deleteSchedules(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM schedule WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    // 스케줄을 모두 지운 다음 호출 (schedule_day_count 는 ON DELETE CASCADE 로 같이 삭제)
+    public int deleteMember(Long memberId) {
+        return jdbcTemplate.update("DELETE FROM member WHERE id = ? AND deleted_at IS NOT NULL", memberId);
+    }
+}
@@ -1,49 +1,164 @@
 package com.example.dailyschedule.schedule.repository;
 
+import com.example.dailyschedule.common.cache.CacheNames;
+import com.example.dailyschedule.common.cache.SingleFlight;
+import com.example.dailyschedule.common.metrics.OperationMetrics;
 import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.schedule.dto.CountMode;
+import com.example.dailyschedule.schedule.dto.CursorPageDto;
+import com.example.dailyschedule.schedule.dto.ScheduleCursor;
+import com.example.dailyschedule.schedule.dto.ScheduleListVersion;
 import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.dto.TitleAndAuthorUpdate;
 import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.recurrence.RecurrenceColumns;
+import com.example.dailyschedule.schedule.recurrence.RecurrenceRule;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Repository
 public class ScheduleRepositoryImpl {
 
+    // 목록 조회용 컬럼 (스케줄, 회원 비밀번호 제외)
+    private static final String LIST_COLUMNS = """
+                s.id, s.title, s.author, s.description, s.created_at, s.updated_at, s.deleted_at,
+                       s.recurrence_rule, s.recurrence_exdates, s.start_at, s.end_at,
+                       m.id AS member_id, m.user_id AS user_id, m.name AS member_name,
+                       m.email AS member_email, m.updated_at AS member_updated_at
+            """;
+
+    // 단건 조회용 컬럼 (스케줄 비밀번호 포함, 회원 비밀번호 제외)
+    // modified_at 은 캐시된 단건으로 조건부 GET 을 처리하기 위해 스케줄, 회원 중 늦은 시각으로 조회
+    private static final String DETAIL_COLUMNS = LIST_COLUMNS
+            + ", s.password, GREATEST(s.modified_at, COALESCE(m.modified_at, s.modified_at)) AS modified_at";
+
+    private static final String SELECT_SCHEDULE_LIST =
+            "SELECT " + LIST_COLUMNS + " FROM schedule s LEFT JOIN member m ON s.member_id = m.id";
+
+    private static final String SELECT_SCHEDULE_DETAIL =
+            "SELECT " + DETAIL_COLUMNS + " FROM schedule s LEFT JOIN member m ON s.member_id = m.id";
+
+    /**
+     * 삭제되지 않은 스케줄 조건 (soft delete)
+     * 스케줄 삭제는 deleted_at 을, 회원 삭제는 member.deleted_at 을 설정하고 실제 row 는 SchedulePurgeJob 이 지운다.
+     * 회원이 없는 스케줄은 LEFT JOIN 결과 m.deleted_at 이 null 이라 조회된다.
+     */
+    private static final String LIVE = "s.deleted_at IS NULL AND m.deleted_at IS NULL";
+
+    // 목록 정렬 (cursor 방식과 같은 순서, 같은 updated_at 은 id 로 구분해야 offset 페이지가 겹치거나 빠지지 않음)
+    private static final String ORDER_BY_UPDATED_DESC = " ORDER BY s.updated_at DESC, s.id DESC";
+
+    // created_at / updated_at 중 하나라도 해당 날짜에 속하는 삭제되지 않은 id
+    // OR 조건 대신 컬럼별 index range scan을 UNION 해서 full scan을 피함
+    // (deleted_at 은 삭제 표시라서 날짜 조회 대상에서 제외)
+    private static final String IDS_ON_DATE = """
+                SELECT id FROM schedule WHERE created_at >= ? AND created_at < ? AND deleted_at IS NULL
+                 UNION
+                SELECT id FROM schedule WHERE updated_at >= ? AND updated_at < ? AND deleted_at IS NULL
+            """;
+
+    /**
+     * 해당 날짜에 발생하는 반복 스케줄 id (RecurrenceColumns 로 저장한 주기, 요일, 월, 일 컬럼으로 SQL 에서 바로 계산)
+     * 후보를 애플리케이션으로 읽어서 규칙을 계산하지 않고, 날짜 조회의 UNION 에 그대로 합친다.
+     * idx_schedule_live_recurrence 의 (deleted_at, recurrence_until, created_at) range 에서 나머지 조건도 index 로 거르고
+     * 예외 날짜만 row 에서 확인한다. 파라미터는 recurringParams 순서
+     */
+    private static final String RECURRING_IDS_ON_DATE = """
+                SELECT id FROM schedule
+                 WHERE deleted_at IS NULL AND recurrence_until >= ? AND created_at < ?
+                   AND (recurrence_weekdays & ?) <> 0
+                   AND (recurrence_month IS NULL OR recurrence_month = ?)
+                   AND (recurrence_month_day IS NULL OR recurrence_month_day = ?)
+                   AND MOD(CASE recurrence_frequency WHEN 'DAILY' THEN ? WHEN 'WEEKLY' THEN ? WHEN 'MONTHLY' THEN ? ELSE ? END
+                           - recurrence_period, recurrence_interval) = 0
+                   AND (recurrence_exdates IS NULL OR CONCAT(',', recurrence_exdates, ',') NOT LIKE ?)
+            """;
+
+    // 해당 날짜의 스케줄 + 회원 (파라미터는 dayParams)
+    private static final String SCHEDULE_WITH_MEMBER_ON_DATE = "SELECT " + LIST_COLUMNS
+            + " FROM (" + IDS_ON_DATE + " UNION " + RECURRING_IDS_ON_DATE + ") d"
+            + " JOIN schedule s ON s.id = d.id"
+            + " LEFT JOIN member m ON s.member_id = m.id"
+            + " WHERE m.deleted_at IS NULL"
+            + " ORDER BY s.id";
+
+    // deleted_at 은 삭제 표시라서 생성시에는 항상 null
+    private static final String INSERT_SCHEDULE_SQL = """
+                INSERT INTO schedule (author, title, created_at, password, description, updated_at, member_id,
+                                      recurrence_rule, recurrence_exdates, recurrence_until, start_at, end_at,
+                                      recurrence_frequency, recurrence_interval, recurrence_period,
+                                      recurrence_weekdays, recurrence_month, recurrence_month_day)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 조건부 제목, 작성자 수정 (단건 / batch 공용)
+    private static final String UPDATE_TITLE_AND_AUTHOR_SQL = """
+                UPDATE schedule
+                   SET title = ?, author = ?, updated_at = ?
+                 WHERE id = ? AND CAST(password AS BINARY) = CAST(? AS BINARY) AND deleted_at IS NULL
+            """;
+
     private final JdbcTemplate jdbcTemplate;
+    private final ScheduleDayCountRepository scheduleDayCountRepository;
+    private final OperationMetrics operationMetrics;
+    private final SingleFlight singleFlight;
 
-    public ScheduleRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    public ScheduleRepositoryImpl(JdbcTemplate jdbcTemplate, ScheduleDayCountRepository scheduleDayCountRepository,
+                                  OperationMetrics operationMetrics, SingleFlight singleFlight) {
         this.jdbcTemplate = jdbcTemplate;
+        this.scheduleDayCountRepository = scheduleDayCountRepository;
+        this.operationMetrics = operationMetrics;
+        this.singleFlight = singleFlight;
     }
 
 
     // userId 제거
+    // 날짜별 개수(schedule_day_count)도 같은 트랜잭션에서 변경
+    @Transactional
     public Schedule createSchedule(Schedule schedule, Member member) {
 
-        String sql = "INSERT INTO schedule (author, title, created_at, password, description, updated_at, deleted_at, member_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-
-        jdbcTemplate.update(sql,
-                schedule.getAuthor(),
-                schedule.getTitle(),
-                schedule.getCreatedAt(),
-                schedule.getPassword(),
-                schedule.getDescription(),
-                schedule.getUpdatedAt(),
-                schedule.getDeletedAt(),
-                member.getId() // Member 객체에서 member_id를 가져옴
-        );
-
-        // 최근 추가된 ID 조회
-        Long generatedId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        // INSERT 와 같은 statement에서 생성된 ID를 받아옴 (LAST_INSERT_ID 추가 조회 X)
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SCHEDULE_SQL, Statement.RETURN_GENERATED_KEYS);
+            setScheduleInsertParams(ps, schedule, member.getId()); // Member 객체에서 member_id를 가져옴
+            return ps;
+        }, keyHolder);
+
+        Long generatedId = keyHolder.getKey() != null ? keyHolder.getKey().longValue() : null;
+        if (generatedId != null) {
+            scheduleDayCountRepository.incrementFor(List.of(generatedId));
+        }
 
         return Schedule.builder()
                 .id(generatedId)
@@ -53,72 +168,267 @@ public class ScheduleRepositoryImpl {
                 .description(schedule.getDescription())
                 .createdAt(schedule.getCreatedAt())
                 .updatedAt(schedule.getUpdatedAt())
-                .deletedAt(schedule.getDeletedAt())
+                .recurrenceRule(schedule.getRecurrenceRule())
+                .recurrenceExceptions(schedule.getRecurrenceExceptions())
+                .recurrenceUntil(schedule.getRecurrenceUntil())
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
                 .member(member) // Member 객체 설정
                 .build();
     }
 
+    /**
+     * 여러 스케줄을 하나의 JDBC batch로 INSERT (rewriteBatchedStatements=true 이면 multi-row INSERT 한번)
+     * 생성된 ID는 같은 statement의 generated keys에서 순서대로 읽어서 반환
+     */
+    @Transactional
+    public List<Long> createSchedules(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SCHEDULE_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Schedule schedule = schedules.get(i);
+                        setScheduleInsertParams(ps, schedule, schedule.getMember().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return schedules.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> generatedIds = new ArrayList<>(schedules.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            generatedIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        scheduleDayCountRepository.incrementFor(generatedIds);
+        return generatedIds;
+    }
+
+    private void setScheduleInsertParams(PreparedStatement ps, Schedule schedule, Long memberId) throws SQLException {
+        ps.setString(1, schedule.getAuthor());
+        ps.setString(2, schedule.getTitle());
+        ps.setDate(3, schedule.getCreatedAt());
+        ps.setString(4, schedule.getPassword());
+        ps.setString(5, schedule.getDescription());
+        ps.setDate(6, schedule.getUpdatedAt());
+        ps.setObject(7, memberId);
+        ps.setString(8, schedule.getRecurrenceRule());
+        ps.setString(9, schedule.getRecurrenceExceptions());
+        ps.setDate(10, schedule.getRecurrenceUntil());
+        ps.setTimestamp(11, schedule.getStartAt());
+        ps.setTimestamp(12, schedule.getEndAt());
+        Object[] recurrence = recurrenceColumnParams(schedule);
+        for (int i = 0; i < recurrence.length; i++) {
+            ps.setObject(13 + i, recurrence[i]);
+        }
+    }
+
+    // 날짜 조회용 반복 컬럼 6개 (frequency, interval, period, weekdays, month, month_day), 반복이 아니면 모두 null
+    private static Object[] recurrenceColumnParams(Schedule schedule) {
+        if (schedule.getRecurrenceRule() == null) {
+            return new Object[6];
+        }
+        RecurrenceColumns columns = RecurrenceColumns.of(RecurrenceRule.parse(schedule.getRecurrenceRule()),
+                schedule.getCreatedAt().toLocalDate());
+        return new Object[]{columns.frequency(), columns.interval(), columns.period(),
+                columns.weekdays(), columns.month(), columns.monthDay()};
+    }
+
+    @CacheEvict(cacheNames = CacheNames.SCHEDULES, key = "#schedule.id", condition = "#schedule.id != null")
+    @Transactional
     public Schedule updateSchedule(Member member, Schedule schedule) {
         if (schedule.getId() == null) {
             throw new IllegalArgumentException("해당 id가 존재하지 않습니다.");
         }
 
-        String sql = "UPDATE schedule SET title = ?, author = ?, description = ?, updated_at = ?, password = ?, created_at = ?, deleted_at = ?, member_id = ? WHERE id = ?";
+        // 생성 날짜나 회원이 바뀔 수 있기 때문에 기존 날짜 개수를 줄이고 수정 후 다시 증가
+        scheduleDayCountRepository.decrementFor(schedule.getId());
 
-        int updatedRows = jdbcTemplate.update(sql,
+        // 회원이 바뀌면 이전 회원 목록의 MAX(modified_at) 는 그대로라서 이전 회원의 modified_at 을 갱신 (목록 ETag 변경)
+        String touchPreviousMemberSql = """
+                UPDATE member SET modified_at = CURRENT_TIMESTAMP(3)
+                 WHERE id = (SELECT member_id FROM schedule WHERE id = ? AND deleted_at IS NULL) AND id <> ?
+            """;
+        jdbcTemplate.update(touchPreviousMemberSql, schedule.getId(), member.getId());
+
+        // 삭제된 스케줄은 수정하지 않음 (deleted_at 은 삭제할 때만 변경)
+        String sql = """
+                UPDATE schedule
+                   SET title = ?, author = ?, description = ?, updated_at = ?, password = ?, created_at = ?, member_id = ?,
+                       recurrence_rule = ?, recurrence_exdates = ?, recurrence_until = ?, start_at = ?, end_at = ?,
+                       recurrence_frequency = ?, recurrence_interval = ?, recurrence_period = ?,
+                       recurrence_weekdays = ?, recurrence_month = ?, recurrence_month_day = ?
+                 WHERE id = ? AND deleted_at IS NULL
+            """;
+
+        // 값이 null 일 수 있어서 List.of 대신 Arrays.asList 사용
+        List<Object> params = new ArrayList<>(Arrays.asList(
                 schedule.getTitle(),
                 schedule.getAuthor(),
                 schedule.getDescription(),
                 schedule.getUpdatedAt(),
                 schedule.getPassword(),
                 schedule.getCreatedAt(),
-                schedule.getDeletedAt(),
-                member.getId(),
-                schedule.getId());  // 마지막 파라미터로 id 추가
+                member.getId()));
+        params.addAll(Arrays.asList(
+                schedule.getRecurrenceRule(),
+                schedule.getRecurrenceExceptions(),
+                schedule.getRecurrenceUntil(),
+                schedule.getStartAt(),
+                schedule.getEndAt()));
+        params.addAll(Arrays.asList(recurrenceColumnParams(schedule)));
+        params.add(schedule.getId());  // 마지막 파라미터로 id 추가
+
+        int updatedRows = jdbcTemplate.update(sql, params.toArray());
 
         if (updatedRows == 0) {
             throw new IllegalArgumentException("업데이트 실패");
         }
+        scheduleDayCountRepository.incrementFor(List.of(schedule.getId()));
+        singleFlight.forget(CacheNames.SCHEDULES, schedule.getId());
         return schedule;
     }
 
 
+    /**
+     * 비밀번호가 일치할 때만 제목, 작성자 수정 (조회 + 검증 + 수정을 UPDATE 한번으로 처리)
+     * 비밀번호는 대소문자를 구분하도록 BINARY로 비교
+     * 반환값이 0이면 id가 없거나 비밀번호가 틀린 경우
+     */
+    @CacheEvict(cacheNames = CacheNames.SCHEDULES, key = "#id")
+    public int updateTitleAndAuthorIfPasswordMatches(Long id, String password, String title, String author, Date updatedAt) {
+        singleFlight.forget(CacheNames.SCHEDULES, id);
+        return jdbcTemplate.update(UPDATE_TITLE_AND_AUTHOR_SQL, title, author, updatedAt, id, password);
+    }
+
+    /**
+     * 여러 건의 조건부 제목, 작성자 수정을 JDBC batch 한번으로 실행 (ScheduleUpdateBatcher 용)
+     * 반환값은 updates 순서대로 수정된 row 수 (MySQL 은 rewriteBatchedStatements 여도 statement 마다 개수를 돌려줌)
+     * 캐시 evict 는 호출하는 쪽에서 같은 트랜잭션 안에서 처리
+     */
+    public int[] updateTitleAndAuthorIfPasswordMatches(List<TitleAndAuthorUpdate> updates) {
+        for (TitleAndAuthorUpdate update : updates) {
+            singleFlight.forget(CacheNames.SCHEDULES, update.getId());
+        }
+
+        return jdbcTemplate.batchUpdate(UPDATE_TITLE_AND_AUTHOR_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TitleAndAuthorUpdate update = updates.get(i);
+                ps.setString(1, update.getTitle());
+                ps.setString(2, update.getAuthor());
+                ps.setDate(3, update.getUpdatedAt());
+                ps.setLong(4, update.getId());
+                ps.setString(5, update.getPassword());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+    }
+
+    /**
+     * 비밀번호가 일치할 때만 삭제 표시 (PK UPDATE 한번, 실제 row 는 SchedulePurgeJob 이 삭제)
+     * 반환값이 0이면 id가 없거나, 이미 삭제됐거나, 비밀번호가 틀린 경우
+     */
+    @CacheEvict(cacheNames = CacheNames.SCHEDULES, key = "#id")
+    @Transactional
+    public int deleteScheduleByIdAndPassword(Long id, String password) {
+        // 삭제와 같은 조건으로 날짜별 개수 감소 (같은 트랜잭션이라 row lock 으로 결과가 같음)
+        scheduleDayCountRepository.decrementIfPasswordMatches(id, password);
+        String sql = """
+                UPDATE schedule SET deleted_at = CURRENT_TIMESTAMP
+                 WHERE id = ? AND CAST(password AS BINARY) = CAST(? AS BINARY) AND deleted_at IS NULL
+            """;
+        singleFlight.forget(CacheNames.SCHEDULES, id);
+        return jdbcTemplate.update(sql, id, password);
+    }
+
+    //PK로 존재 여부만 확인 (조건부 수정/삭제 실패 원인 구분용), 삭제된 스케줄은 없는 것으로 처리
+    public boolean existsById(Long id) {
+        String sql = "SELECT EXISTS(SELECT 1 FROM schedule s LEFT JOIN member m ON s.member_id = m.id WHERE s.id = ? AND " + LIVE + ")";
+        Boolean exists = jdbcTemplate.queryForObject(sql, Boolean.class, id);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 조건부 GET 용 목록 validator (memberId 가 null 이면 전체 목록)
+     * 삭제 표시도 modified_at 을 갱신하기 때문에 deleted_at 조건 없이 MAX 만 조회한다. (V4 의 idx_schedule_modified_at,
+     * idx_schedule_member_modified_at, idx_member_modified_at 의 끝 한 건, COUNT 처럼 row 를 세지 않음)
+     * purge 로 row 가 사라지면 MAX 가 이전 값으로 돌아갈 수 있어서 purge_watermark 를 같이 비교한다.
+     */
+    public ScheduleListVersion findListVersion(Long memberId) {
+        if (memberId == null) {
+            String sql = """
+                    SELECT (SELECT MAX(modified_at) FROM schedule),
+                           (SELECT MAX(modified_at) FROM member),
+                           (SELECT purged_at FROM purge_watermark WHERE id = 1)""";
+            return jdbcTemplate.queryForObject(sql, listVersionRowMapper());
+        }
+
+        // 회원 삭제도 member.modified_at 이 바뀌기 때문에 ETag 가 달라진다
+        String sql = """
+                SELECT (SELECT MAX(modified_at) FROM schedule WHERE member_id = ?),
+                       (SELECT modified_at FROM member WHERE id = ?),
+                       (SELECT purged_at FROM purge_watermark WHERE id = 1)""";
+        return jdbcTemplate.queryForObject(sql, listVersionRowMapper(), memberId, memberId);
+    }
+
+    private static RowMapper<ScheduleListVersion> listVersionRowMapper() {
+        return (rs, rowNum) -> new ScheduleListVersion(rs.getTimestamp(1), rs.getTimestamp(2), rs.getTimestamp(3));
+    }
+
+    @Cacheable(cacheNames = CacheNames.SCHEDULES, key = "#id", condition = "#id != null", unless = "#result == null")
     public Schedule findScheduleById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Id 값이 null 입니다");
         }
 
-        String sql = """
-                    SELECT s.*, 
-                           m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-                           m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-                      FROM schedule s
-                      LEFT JOIN member m ON s.member_id = m.id
-                     WHERE s.id = ?
-                """;
+        String sql = SELECT_SCHEDULE_DETAIL + " WHERE s.id = ? AND " + LIVE;
 
-        try {
-            return jdbcTemplate.queryForObject(sql, new Object[]{id}, scheduleRowMapper());
-        } catch (EmptyResultDataAccessException e) {
-            return null; // 조회 결과가 없을 경우 null 반환
-        }
+        // 캐시 miss 가 동시에 몰리면 같은 id 조회는 한번만 실행
+        return singleFlight.execute(CacheNames.SCHEDULES, id, () -> {
+            try {
+                return jdbcTemplate.queryForObject(sql, new Object[]{id}, scheduleRowMapper());
+            } catch (EmptyResultDataAccessException e) {
+                return null; // 조회 결과가 없을 경우 null 반환
+            }
+        });
     }
 
 
+    //삭제 표시 (실제 row 는 SchedulePurgeJob 이 삭제)
+    @CacheEvict(cacheNames = CacheNames.SCHEDULES, key = "#scheduleId")
+    @Transactional
     public void deleteScheduleById(Long scheduleId) {
+        scheduleDayCountRepository.decrementFor(scheduleId);
 
-        String sql = "delete from schedule where id = ?";
+        String sql = "update schedule set deleted_at = CURRENT_TIMESTAMP where id = ? and deleted_at is null";
 
         int delete = jdbcTemplate.update(sql, scheduleId);
 
         if (delete == 0) {
             throw new IllegalArgumentException("삭제 살패했습니다.");
         }
+        singleFlight.forget(CacheNames.SCHEDULES, scheduleId);
     }
 
 
     //test용
+    @CacheEvict(cacheNames = CacheNames.SCHEDULES, allEntries = true)
+    @Transactional
     public void deleteAll() {
+        scheduleDayCountRepository.deleteAll();
         String sql = "delete from schedule";
 
         int deleteAll = jdbcTemplate.update(sql);
@@ -134,28 +444,32 @@ public class ScheduleRepositoryImpl {
         int offset = searchDto.getOffset();
 
         // 전체 레코드 수를 계산하는 쿼리
-        String countSql = "SELECT COUNT(*) FROM schedule";
-        Long totalCount = jdbcTemplate.queryForObject(countSql, Long.class);
+        // 삭제된 회원의 스케줄은 purge 전까지 개수에 포함될 수 있음 (COUNT 에 join 을 추가하지 않기 위해)
+        String countSql = "SELECT COUNT(*) FROM schedule WHERE deleted_at IS NULL";
+        long totalCount = countTotal(countSql, new Object[]{}, searchDto);
 
-        if (totalCount == 0 || offset >= totalCount) {
+        if (isOutOfRange(totalCount, offset, searchDto)) {
             return new PageImpl<>(Collections.emptyList(), PageRequest.of(offset / limit, limit), totalCount);
         }
 
-        String sql = """
-                SELECT s.*, 
-                       m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-                       m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-                  FROM schedule s
-                  LEFT JOIN member m ON s.member_id = m.id
-                 ORDER BY s.updated_at DESC
-                 LIMIT ? OFFSET ?
-            """;
+        String sql = SELECT_SCHEDULE_LIST + " WHERE " + LIVE + ORDER_BY_UPDATED_DESC + " LIMIT ? OFFSET ?";
 
         List<Schedule> schedules = jdbcTemplate.query(sql, new Object[]{limit, offset}, scheduleRowMapper());
 
         return new PageImpl<>(schedules, PageRequest.of(offset / limit, limit), totalCount);
     }
 
+    //COUNT 없이 update 날짜 내림차순 조회
+    public Slice<Schedule> findAllOrderByUpdatedDateDescSlice(SearchDto searchDto) {
+        String sql = SELECT_SCHEDULE_LIST + " WHERE " + LIVE + ORDER_BY_UPDATED_DESC;
+        return querySlice(sql, new ArrayList<>(), searchDto);
+    }
+
+    //cursor 방식 update 날짜 내림차순 조회 (COUNT, OFFSET 없이 마지막 위치 다음부터 조회)
+    public CursorPageDto<Schedule> findAllOrderByUpdatedDateDescWithCursor(SearchDto searchDto) {
+        return findPageWithCursor(LIVE, new ArrayList<>(), searchDto);
+    }
+
 
 
     public Page<Schedule> findSchedulesByUpdatedDateAndAuthor(Date updatedAt, String author, SearchDto searchDto) {
@@ -166,24 +480,18 @@ public class ScheduleRepositoryImpl {
         SELECT COUNT(*)
           FROM schedule s
           LEFT JOIN member m ON s.member_id = m.id
-          WHERE 1=1
+          WHERE s.deleted_at IS NULL AND m.deleted_at IS NULL
     """);
 
-        StringBuilder sql = new StringBuilder("""
-        SELECT s.*, 
-               m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-               m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-          FROM schedule s
-          LEFT JOIN member m ON s.member_id = m.id
-          WHERE 1=1
-    """);
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_LIST).append(" WHERE ").append(LIVE);
 
         List<Object> params = new ArrayList<>();
 
         if (updatedAt != null) {
-            countSql.append(" AND DATE(s.updated_at) = DATE(?)");
-            sql.append(" AND DATE(s.updated_at) = DATE(?)");
-            params.add(updatedAt);
+            countSql.append(" AND s.updated_at >= ? AND s.updated_at < ?");
+            sql.append(" AND s.updated_at >= ? AND s.updated_at < ?");
+            params.add(startOfDay(updatedAt));
+            params.add(startOfNextDay(updatedAt));
         }
 
         if (author != null) {
@@ -192,13 +500,13 @@ public class ScheduleRepositoryImpl {
             params.add(author);
         }
 
-        sql.append(" ORDER BY s.updated_at DESC LIMIT ? OFFSET ?");
+        sql.append(ORDER_BY_UPDATED_DESC).append(" LIMIT ? OFFSET ?");
         params.add(limit);
         params.add(offset);
 
-        int total = jdbcTemplate.queryForObject(countSql.toString(), params.subList(0, params.size() - 2).toArray(), Integer.class);
+        long total = countTotal(countSql.toString(), params.subList(0, params.size() - 2).toArray(), searchDto);
 
-        if (total == 0 || offset >= total) {
+        if (isOutOfRange(total, offset, searchDto)) {
             return new PageImpl<>(Collections.emptyList(), PageRequest.of(offset / limit, limit), total);
         }
 
@@ -207,23 +515,47 @@ public class ScheduleRepositoryImpl {
         return new PageImpl<>(schedules, PageRequest.of(offset / limit, limit), total);
     }
 
+    public Slice<Schedule> findSchedulesByUpdatedDateAndAuthorSlice(Date updatedAt, String author, SearchDto searchDto) {
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_LIST).append(" WHERE ").append(LIVE);
+        List<Object> params = new ArrayList<>();
+
+        if (updatedAt != null) {
+            sql.append(" AND s.updated_at >= ? AND s.updated_at < ?");
+            params.add(startOfDay(updatedAt));
+            params.add(startOfNextDay(updatedAt));
+        }
+
+        if (author != null) {
+            sql.append(" AND s.author = ?");
+            params.add(author);
+        }
+
+        sql.append(ORDER_BY_UPDATED_DESC);
+        return querySlice(sql.toString(), params, searchDto);
+    }
+
     //선텍 일정 조회
     public Schedule findDateById(Long id, String field, Date date) {
         if (date == null) {
             throw new IllegalArgumentException("해당 날짜가 없습니다.");
         }
 
-        if (!field.equals("created_at") && !field.equals("updated_at") && !field.equals("deleted_at")) {
+        // deleted_at 은 삭제 표시라서 조회 대상이 아님 (삭제된 스케줄은 아래 조건으로 제외)
+        if (!field.equals("created_at") && !field.equals("updated_at")) {
             throw new IllegalArgumentException("유요하지 않은 필드 이름입니다");
         }
 
-        String sql = String.format("select * from schedule where %s = ? and id = ?", field);
+        // SingleDateScheduleDto에 필요한 컬럼만 조회 (description 등 제외)
+        String sql = String.format("select id, title, author, %s from schedule where %s = ? and id = ? and deleted_at is null", field, field);
 
-        // query 메서드를 사용하여 다수의 결과를 리스트로 반환
-        return jdbcTemplate.queryForObject(sql, new Object[]{date, id}, simpleScheduleRowMapper());
+        return jdbcTemplate.queryForObject(sql, new Object[]{date, id}, scheduleRowMapper());
     }
 
 
+    /**
+     * 해당 날짜에 생성/수정된 스케줄 + 해당 날짜에 발생하는 반복 스케줄 (RECURRING_IDS_ON_DATE)
+     * 반복 스케줄도 같은 UNION 으로 합치기 때문에 개수와 페이지는 기존과 같이 DB에서 계산한다.
+     */
     public Page<Schedule> findByDate(Date date, SearchDto searchDto) {
         if (date == null) {
             throw new IllegalArgumentException("해당 날짜가 없습니다.");
@@ -239,35 +571,59 @@ public class ScheduleRepositoryImpl {
             throw new IllegalArgumentException("offset 값이 음수가 될 수 없습니다.");
         }
 
+        Object[] dayParams = dayParams(date);
+
         // 전체 개수 계산 쿼리
-        String countSql = """
-                SELECT COUNT(*) FROM schedule s
-                 WHERE s.created_at = ? OR s.updated_at = ? OR s.deleted_at = ?
-            """;
-        Long totalCount = jdbcTemplate.queryForObject(countSql, new Object[]{date, date, date}, Long.class);
+        String countSql = "SELECT COUNT(*) FROM (" + IDS_ON_DATE + " UNION " + RECURRING_IDS_ON_DATE + ") d";
+        long totalCount = countTotal(countSql, dayParams, searchDto);
 
-        if (totalCount == 0 || offset >= totalCount) {
+        if (isOutOfRange(totalCount, offset, searchDto)) {
             return new PageImpl<>(Collections.emptyList(), PageRequest.of(offset / limit, limit), totalCount);
         }
 
         // 데이터 조회 쿼리
-        String sql = """
-                SELECT s.*, 
-                       m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-                       m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-                  FROM schedule s
-                  LEFT JOIN member m ON s.member_id = m.id
-                 WHERE s.created_at = ? OR s.updated_at = ? OR s.deleted_at = ?
-                 LIMIT ? OFFSET ?
-            """;
+        String sql = SCHEDULE_WITH_MEMBER_ON_DATE + " LIMIT ? OFFSET ?";
+
+        List<Object> params = new ArrayList<>(Arrays.asList(dayParams));
+        params.add(limit);
+        params.add(offset);
 
-        List<Schedule> schedules = jdbcTemplate.query(
-                sql, new Object[]{date, date, date, limit, offset}, scheduleRowMapper());
+        List<Schedule> schedules = jdbcTemplate.query(sql, scheduleRowMapper(), params.toArray());
 
         PageRequest pageRequest = PageRequest.of(offset / limit, limit);
         return new PageImpl<>(schedules, pageRequest, totalCount);
     }
 
+    public Slice<Schedule> findByDateSlice(Date date, SearchDto searchDto) {
+        if (date == null) {
+            throw new IllegalArgumentException("해당 날짜가 없습니다.");
+        }
+
+        return querySlice(SCHEDULE_WITH_MEMBER_ON_DATE, new ArrayList<>(Arrays.asList(dayParams(date))), searchDto);
+    }
+
+    /**
+     * 회원의 [from, to] 기간에 발생하는 스케줄 (반복이 아닌 스케줄은 생성일 기준, 반복 스케줄은 기간과 겹치는 규칙)
+     * 발생일 계산은 호출하는 쪽에서 기간만큼만 한다.
+     * 반복이 아닌 스케줄은 앞에서부터 limit 개만 있으면 되기 때문에 (created_at 은 날짜 단위) 생성일, id 순으로 limit 개,
+     * 반복 스케줄은 어느 것이 먼저 발생할지 모르기 때문에 id 순으로 maxSeries 개까지 조회한다.
+     */
+    public List<Schedule> findSchedulesOfMemberBetween(Long memberId, Date from, Date to, int limit, int maxSeries) {
+        String sql = """
+                (%1$s WHERE s.member_id = ? AND %2$s
+                   AND s.recurrence_rule IS NULL AND s.created_at >= ? AND s.created_at < ?
+                 ORDER BY s.created_at, s.id LIMIT ?)
+                UNION ALL
+                (%1$s WHERE s.member_id = ? AND %2$s
+                   AND s.recurrence_until >= ? AND s.created_at < ?
+                 ORDER BY s.id LIMIT ?)
+            """.formatted(SELECT_SCHEDULE_LIST, LIVE);
+        Timestamp end = startOfNextDay(to);
+        return jdbcTemplate.query(sql, scheduleRowMapper(),
+                memberId, startOfDay(from), end, limit,
+                memberId, from, end, maxSeries);
+    }
+
 
     public Page<Schedule> findSchedulesByMemberId(Long memberId, SearchDto searchDto) {
         if (memberId == null) {
@@ -285,24 +641,21 @@ public class ScheduleRepositoryImpl {
         }
 
         // 전체 일정 개수 쿼리
-        String countSql = "SELECT COUNT(*) FROM schedule WHERE member_id = ?";
-        Long totalCount = jdbcTemplate.queryForObject(countSql, new Object[]{memberId}, Long.class);
+        // 회원이 삭제됐으면 0 (회원 조건은 상수 subquery 라 한번만 실행됨)
+        String countSql = """
+                SELECT COUNT(*) FROM schedule
+                 WHERE member_id = ? AND deleted_at IS NULL
+                   AND EXISTS (SELECT 1 FROM member WHERE id = ? AND deleted_at IS NULL)
+                """;
+        long totalCount = countTotal(countSql, new Object[]{memberId, memberId}, searchDto);
 
         // 빈 페이지 반환 조건
-        if (totalCount == 0 || offset >= totalCount) {
+        if (isOutOfRange(totalCount, offset, searchDto)) {
             return new PageImpl<>(Collections.emptyList(), PageRequest.of(offset / limit, limit), totalCount);
         }
 
         // 데이터 조회 쿼리
-        String sql = """
-                SELECT s.*, 
-                       m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-                       m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-                  FROM schedule s
-                  LEFT JOIN member m ON s.member_id = m.id
-                 WHERE m.id = ?
-                 LIMIT ? OFFSET ?
-            """;
+        String sql = SELECT_SCHEDULE_LIST + " WHERE s.member_id = ? AND " + LIVE + ORDER_BY_UPDATED_DESC + " LIMIT ? OFFSET ?";
 
         List<Schedule> schedules = jdbcTemplate.query(sql, new Object[]{memberId, limit, offset}, scheduleRowMapper());
 
@@ -310,16 +663,28 @@ public class ScheduleRepositoryImpl {
         return new PageImpl<>(schedules, pageRequest, totalCount);
     }
 
+    public Slice<Schedule> findSchedulesByMemberIdSlice(Long memberId, SearchDto searchDto) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("해당 회원 아이디가 존재하지 않습니다.");
+        }
+
+        String sql = SELECT_SCHEDULE_LIST + " WHERE s.member_id = ? AND " + LIVE + ORDER_BY_UPDATED_DESC;
+        return querySlice(sql, new ArrayList<>(List.of(memberId)), searchDto);
+    }
+
+    //cursor 방식 회원 스케줄 조회
+    public CursorPageDto<Schedule> findSchedulesByMemberIdWithCursor(Long memberId, SearchDto searchDto) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("해당 회원 아이디가 존재하지 않습니다.");
+        }
+
+        List<Object> params = new ArrayList<>();
+        params.add(memberId);
+        return findPageWithCursor("s.member_id = ? AND " + LIVE, params, searchDto);
+    }
+
     public Schedule findSingleScheduleByMemberId(Long memberId) {
-        String sql = """
-                    SELECT s.*, 
-                           m.id AS member_id, m.user_id AS user_id, m.password AS member_password, 
-                           m.name AS member_name, m.email AS member_email, m.updated_at AS member_updated_at
-                      FROM schedule s
-                      LEFT JOIN member m ON s.member_id = m.id
-                     WHERE m.id = ?
-                     LIMIT 1
-                """;
+        String sql = SELECT_SCHEDULE_DETAIL + " WHERE s.member_id = ? AND " + LIVE + " LIMIT 1";
         try {
             return jdbcTemplate.queryForObject(sql, new Object[]{memberId}, scheduleRowMapper());
         } catch (EmptyResultDataAccessException e) {
@@ -327,46 +692,232 @@ public class ScheduleRepositoryImpl {
         }
     }
 
-    private RowMapper<Schedule> scheduleRowMapper() {
-        return (rs, rowNum) -> {
-            // Member 정보 매핑
-            Member member = null;
-            if (rs.getObject("member_id") != null) {
-
-                member = Member.builder()
-                        .id(rs.getLong("member_id"))
-                        .userId(rs.getString("user_id"))
-                        .password(rs.getString("member_password"))
-                        .name(rs.getString("member_name"))
-                        .email(rs.getString("member_email"))
-                        .updatedAt(rs.getDate("updated_at"))
-                        .build();
+    // id 목록으로 조회 (검색 결과 순서 유지), 이미 삭제된 id는 제외됨
+    public List<Schedule> findSchedulesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = SELECT_SCHEDULE_LIST + " WHERE s.id IN (" + placeholders + ") AND " + LIVE;
+        List<Schedule> schedules = jdbcTemplate.query(sql, scheduleRowMapper(), ids.toArray());
+
+        Map<Long, Schedule> byId = new HashMap<>();
+        schedules.forEach(schedule -> byId.put(schedule.getId(), schedule));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * export 용 조회 - 조건에 맞는 스케줄을 한 row씩 consumer에 전달 (List로 모으지 않음)
+     * fetchSize = Integer.MIN_VALUE 이면 MySQL driver가 결과를 한번에 메모리에 올리지 않고 row 단위로 streaming 한다.
+     * streaming 중에는 같은 connection으로 다른 쿼리를 실행할 수 없기 때문에 consumer 안에서 DB 조회를 하면 안 된다.
+     */
+    public void streamSchedules(Date updatedAt, String author, Long memberId, Consumer<Schedule> consumer) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.id, s.title, s.author, s.description, s.created_at, s.updated_at, s.deleted_at, s.member_id
+                  FROM schedule s
+                  LEFT JOIN member m ON s.member_id = m.id
+                 WHERE s.deleted_at IS NULL AND m.deleted_at IS NULL
+                """);
+        List<Object> params = new ArrayList<>();
+
+        if (updatedAt != null) {
+            sql.append(" AND s.updated_at >= ? AND s.updated_at < ?");
+            params.add(startOfDay(updatedAt));
+            params.add(startOfNextDay(updatedAt));
+        }
+
+        if (author != null) {
+            sql.append(" AND s.author = ?");
+            params.add(author);
+        }
+
+        if (memberId != null) {
+            sql.append(" AND s.member_id = ?");
+            params.add(memberId);
+        }
+
+        sql.append(" ORDER BY s.id");
+
+        ScheduleRowMapper rowMapper = new ScheduleRowMapper();
+        RowCallbackHandler rowCallbackHandler = rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow()));
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
             }
+            return ps;
+        }, rowCallbackHandler);
+    }
 
-            return Schedule.builder()
-                    .id(rs.getLong("id"))
-                    .title(rs.getString("title"))
-                    .author(rs.getString("author"))
-                    .password(rs.getString("password"))
-                    .description(rs.getString("description"))
-                    .createdAt(rs.getDate("created_at"))
-                    .updatedAt(rs.getDate("updated_at"))
-                    .deletedAt(rs.getDate("deleted_at"))
-                    .member(member)
-                    .build();
-        };
-    }
-
-    private RowMapper<Schedule> simpleScheduleRowMapper() {
-        return (rs, rowNum) -> Schedule.builder()
-                .id(rs.getLong("id"))
-                .title(rs.getString("title"))
-                .author(rs.getString("author"))
-                .password(rs.getString("password"))
-                .description(rs.getString("description"))
-                .createdAt(rs.getDate("created_at"))
-                .updatedAt(rs.getDate("updated_at"))
-                .deletedAt(rs.getDate("deleted_at"))
-                .build();  // build()로 객체를 완성하고 반환
+    /**
+     * 시간 색인 생성용 - 시간이 있는 삭제되지 않은 스케줄의 id, 회원, 시작/종료 시각만 streaming 으로 전달
+     * streamSchedules 와 마찬가지로 consumer 안에서 DB 조회를 하면 안 된다.
+     */
+    public void streamScheduleIntervals(Consumer<Schedule> consumer) {
+        String sql = """
+                SELECT s.id, s.member_id, s.start_at, s.end_at
+                  FROM schedule s
+                  LEFT JOIN member m ON s.member_id = m.id
+                 WHERE s.start_at IS NOT NULL AND s.deleted_at IS NULL AND m.deleted_at IS NULL
+                """;
+
+        ScheduleRowMapper rowMapper = new ScheduleRowMapper();
+        RowCallbackHandler rowCallbackHandler = rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow()));
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rowCallbackHandler);
+    }
+
+
+    // [해당 날짜 00:00, 다음 날 00:00) 범위 - 컬럼에 함수를 씌우지 않아야 index를 사용할 수 있음
+    private static Timestamp startOfDay(Date date) {
+        return Timestamp.valueOf(date.toLocalDate().atStartOfDay());
+    }
+
+    private static Timestamp startOfNextDay(Date date) {
+        return Timestamp.valueOf(date.toLocalDate().plusDays(1).atStartOfDay());
+    }
+
+    // IDS_ON_DATE 에 들어갈 파라미터 (컬럼 2개 * 범위 2개) + RECURRING_IDS_ON_DATE 파라미터
+    private static Object[] dayParams(Date date) {
+        Timestamp start = startOfDay(date);
+        Timestamp end = startOfNextDay(date);
+        List<Object> params = new ArrayList<>(List.of(start, end, start, end));
+        params.addAll(recurringParams(date));
+        return params.toArray();
+    }
+
+    // RECURRING_IDS_ON_DATE 파라미터 : 날짜 범위, 요일 bit, 월, 일, 주기별 주기 번호, 예외 날짜 LIKE 패턴
+    private static List<Object> recurringParams(Date date) {
+        LocalDate day = date.toLocalDate();
+        return List.of(date, startOfNextDay(date),
+                RecurrenceColumns.weekdayBit(day.getDayOfWeek()), day.getMonthValue(), day.getDayOfMonth(),
+                RecurrenceColumns.periodOf(RecurrenceRule.Frequency.DAILY, day),
+                RecurrenceColumns.periodOf(RecurrenceRule.Frequency.WEEKLY, day),
+                RecurrenceColumns.periodOf(RecurrenceRule.Frequency.MONTHLY, day),
+                RecurrenceColumns.periodOf(RecurrenceRule.Frequency.YEARLY, day),
+                "%," + day + ",%");
+    }
+
+    // CountMode에 따라 정확한 COUNT(*) 또는 예상 개수를 반환
+    // 목록 조회 시간 중 COUNT 비중을 볼 수 있도록 따로 기록
+    private long countTotal(String countSql, Object[] params, SearchDto searchDto) {
+        long start = System.nanoTime();
+        try {
+            if (searchDto.getCountMode() == CountMode.ESTIMATED) {
+                return estimateTotal(countSql, params);
+            }
+
+            Long total = jdbcTemplate.queryForObject(countSql, params, Long.class);
+            return total != null ? total : 0L;
+        } finally {
+            operationMetrics.recordCount(searchDto.getCountMode(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 조건이 없으면 information_schema의 테이블 통계(TABLE_ROWS)를,
+     * 조건이 있으면 EXPLAIN 실행 계획의 예상 row 수를 사용 (실제 개수와 다를 수 있음)
+     */
+    private long estimateTotal(String countSql, Object[] params) {
+        if (params.length == 0) {
+            String statSql = """
+                    SELECT TABLE_ROWS FROM information_schema.TABLES
+                     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'schedule'
+                """;
+            Long rows = jdbcTemplate.queryForObject(statSql, Long.class);
+            return rows != null ? rows : 0L;
+        }
+
+        Long rows = jdbcTemplate.query("EXPLAIN " + countSql,
+                rs -> rs.next() ? rs.getLong("rows") : 0L, params);
+        return rows != null ? rows : 0L;
+    }
+
+    // 예상 개수는 실제보다 작을 수 있기 때문에 EXACT 모드일 때만 빈 페이지로 처리
+    private boolean isOutOfRange(long totalCount, int offset, SearchDto searchDto) {
+        if (searchDto.getCountMode() != CountMode.EXACT) {
+            return false;
+        }
+        return totalCount == 0 || offset >= totalCount;
+    }
+
+    // limit + 1 개를 조회해서 COUNT 없이 다음 페이지 존재 여부를 판단
+    private Slice<Schedule> querySlice(String sql, List<Object> params, SearchDto searchDto) {
+        int limit = searchDto.getLimit();
+        int offset = searchDto.getOffset();
+
+        params.add(limit + 1);
+        params.add(offset);
+
+        List<Schedule> schedules = jdbcTemplate.query(sql + " LIMIT ? OFFSET ?", scheduleRowMapper(), params.toArray());
+
+        boolean hasNext = schedules.size() > limit;
+        List<Schedule> content = hasNext ? schedules.subList(0, limit) : schedules;
+        return new SliceImpl<>(content, PageRequest.of(offset / limit, limit), hasNext);
+    }
+
+    /**
+     * (updated_at DESC, id DESC) 순서로 cursor 다음 row 부터 limit + 1 개를 조회
+     * 한 개를 더 가져와서 다음 페이지 존재 여부를 판단하고, 마지막 row 위치를 nextCursor로 반환
+     * updated_at이 null인 row는 DESC 정렬시 맨 뒤에 오기 때문에 따로 조건을 나눔
+     */
+    private CursorPageDto<Schedule> findPageWithCursor(String condition, List<Object> params, SearchDto searchDto) {
+        int limit = searchDto.getLimit();
+
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_LIST)
+                .append(" WHERE ").append(condition);
+
+        String token = searchDto.getCursor();
+        if (token != null && !token.isBlank()) {
+            ScheduleCursor cursor = ScheduleCursor.decode(token);
+            if (cursor.getUpdatedAt() == null) {
+                sql.append(" AND s.updated_at IS NULL AND s.id < ?");
+                params.add(cursor.getId());
+            } else {
+                sql.append(" AND (s.updated_at < ? OR (s.updated_at = ? AND s.id < ?) OR s.updated_at IS NULL)");
+                params.add(cursor.getUpdatedAt());
+                params.add(cursor.getUpdatedAt());
+                params.add(cursor.getId());
+            }
+        }
+
+        sql.append(ORDER_BY_UPDATED_DESC).append(" LIMIT ?");
+        params.add(limit + 1);
+
+        RowMapper<Schedule> rowMapper = scheduleRowMapper();
+        List<CursorRow> rows = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new CursorRow(rowMapper.mapRow(rs, rowNum), rs.getTimestamp("updated_at")),
+                params.toArray());
+
+        boolean hasNext = rows.size() > limit;
+        List<CursorRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CursorRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new ScheduleCursor(last.updatedAt(), last.schedule().getId()).encode();
+        }
+
+        List<Schedule> schedules = pageRows.stream().map(CursorRow::schedule).toList();
+        return new CursorPageDto<>(schedules, limit, hasNext, nextCursor);
+    }
+
+    // RowMapper의 Date는 시간이 잘리기 때문에 cursor 용 updated_at은 Timestamp로 따로 보관
+    private record CursorRow(Schedule schedule, Timestamp updatedAt) {
+    }
+
+    // 조회 할 때마다 새로 생성 (컬럼 위치를 ResultSet 단위로 한번만 찾기 때문에 공유하지 않음)
+    private RowMapper<Schedule> scheduleRowMapper() {
+        return new ScheduleRowMapper();
     }
 }
\ No newline at end of file
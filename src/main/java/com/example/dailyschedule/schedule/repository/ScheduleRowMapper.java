@@ -0,0 +1,133 @@
+package com.example.dailyschedule.schedule.repository;
+
+import com.example.dailyschedule.member.entity.Member;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스케줄 (+ 회원) RowMapper
+ * 컬럼 이름으로 매번 찾지 않고, ResultSet 마다 한번만 컬럼 위치를 찾아서 index로 읽는다.
+ * 조회하지 않은 컬럼(projection에 없는 컬럼)은 null 로 둔다.
+ */
+public class ScheduleRowMapper implements RowMapper<Schedule> {
+
+    private static final int ABSENT = 0;
+
+    private ResultSet resolvedFor;
+
+    private int id;
+    private int title;
+    private int author;
+    private int password;
+    private int description;
+    private int createdAt;
+    private int updatedAt;
+    private int deletedAt;
+    private int recurrenceRule;
+    private int recurrenceExceptions;
+    private int recurrenceUntil;
+    private int startAt;
+    private int endAt;
+    private int modifiedAt;
+
+    private int memberId;
+    private int memberUserId;
+    private int memberPassword;
+    private int memberName;
+    private int memberEmail;
+    private int memberUpdatedAt;
+
+    @Override
+    public Schedule mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (rs != resolvedFor) {
+            resolveColumns(rs);
+        }
+
+        // Member 정보 매핑
+        Member member = null;
+        if (memberId != ABSENT) {
+            long memberIdValue = rs.getLong(memberId);
+            if (!rs.wasNull()) {
+                member = Member.builder()
+                        .id(memberIdValue)
+                        .userId(getString(rs, memberUserId))
+                        .password(getString(rs, memberPassword))
+                        .name(getString(rs, memberName))
+                        .email(getString(rs, memberEmail))
+                        .updatedAt(getDate(rs, memberUpdatedAt))
+                        .build();
+            }
+        }
+
+        return Schedule.builder()
+                .id(rs.getLong(id))
+                .title(getString(rs, title))
+                .author(getString(rs, author))
+                .password(getString(rs, password))
+                .description(getString(rs, description))
+                .createdAt(getDate(rs, createdAt))
+                .updatedAt(getDate(rs, updatedAt))
+                .deletedAt(getDate(rs, deletedAt))
+                .recurrenceRule(getString(rs, recurrenceRule))
+                .recurrenceExceptions(getString(rs, recurrenceExceptions))
+                .recurrenceUntil(getDate(rs, recurrenceUntil))
+                .startAt(getTimestamp(rs, startAt))
+                .endAt(getTimestamp(rs, endAt))
+                .modifiedAt(getTimestamp(rs, modifiedAt))
+                .member(member)
+                .build();
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            // 같은 이름이 여러개면 첫번째 컬럼 사용 (ResultSet.findColumn 과 동일)
+            positions.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(), i);
+        }
+
+        id = positions.getOrDefault("id", ABSENT);
+        title = positions.getOrDefault("title", ABSENT);
+        author = positions.getOrDefault("author", ABSENT);
+        password = positions.getOrDefault("password", ABSENT);
+        description = positions.getOrDefault("description", ABSENT);
+        createdAt = positions.getOrDefault("created_at", ABSENT);
+        updatedAt = positions.getOrDefault("updated_at", ABSENT);
+        deletedAt = positions.getOrDefault("deleted_at", ABSENT);
+        recurrenceRule = positions.getOrDefault("recurrence_rule", ABSENT);
+        recurrenceExceptions = positions.getOrDefault("recurrence_exdates", ABSENT);
+        recurrenceUntil = positions.getOrDefault("recurrence_until", ABSENT);
+        startAt = positions.getOrDefault("start_at", ABSENT);
+        endAt = positions.getOrDefault("end_at", ABSENT);
+        modifiedAt = positions.getOrDefault("modified_at", ABSENT);
+
+        memberId = positions.getOrDefault("member_id", ABSENT);
+        memberUserId = positions.getOrDefault("user_id", ABSENT);
+        memberPassword = positions.getOrDefault("member_password", ABSENT);
+        memberName = positions.getOrDefault("member_name", ABSENT);
+        memberEmail = positions.getOrDefault("member_email", ABSENT);
+        memberUpdatedAt = positions.getOrDefault("member_updated_at", ABSENT);
+
+        resolvedFor = rs;
+    }
+
+    private static String getString(ResultSet rs, int column) throws SQLException {
+        return column != ABSENT ? rs.getString(column) : null;
+    }
+
+    private static Date getDate(ResultSet rs, int column) throws SQLException {
+        return column != ABSENT ? rs.getDate(column) : null;
+    }
+
+    private static Timestamp getTimestamp(ResultSet rs, int column) throws SQLException {
+        return column != ABSENT ? rs.getTimestamp(column) : null;
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.dailyschedule.schedule.search;
+
+import com.example.dailyschedule.common.transaction.TransactionHooks;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스케줄 title, description 키워드 검색용 in-memory 역색인
+ * - 애플리케이션 시작시 schedule 테이블을 streaming 으로 읽어서 생성
+ * - 생성/수정/삭제시 변경된 스케줄만 반영 (트랜잭션 안이면 commit 이후)
+ * - 검색어의 모든 term을 포함하는 스케줄을 TF-IDF 점수 순으로 반환 (title은 가중치 2배)
+ * 본문은 저장하지 않고 스케줄마다 회원 id 와 version 만 저장한다.
+ * 수정/삭제시 기존 term 을 알 수 없기 때문에 posting 에 version 을 같이 저장하고, version 이 다른 posting 은
+ * 검색할 때 건너뛰다가 유효한 posting 보다 많아지면 한번에 정리한다.
+ * 서버마다 따로 가지고 있는 색인이라 다른 서버에서 변경한 스케줄은 재시작(rebuild) 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class ScheduleSearchIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // term -> (스케줄 id -> version, 가중치가 적용된 term 빈도를 합친 값)
+    private final Map<String, Map<Long, Long>> postings = new ConcurrentHashMap<>();
+    // 스케줄 id -> 현재 색인된 version 과 회원
+    private final Map<Long, IndexedSchedule> documents = new ConcurrentHashMap<>();
+    // 쓰기끼리만 순서를 보장 (검색은 lock 없이 처리)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final ScheduleRepositoryImpl scheduleRepositoryImpl;
+
+    // writeLock 안에서만 변경
+    private int nextVersion;
+    private long livePostings;
+    private long stalePostings;
+
+    public ScheduleSearchIndex(ScheduleRepositoryImpl scheduleRepositoryImpl) {
+        this.scheduleRepositoryImpl = scheduleRepositoryImpl;
+    }
+
+    private record IndexedSchedule(int version, int termCount, Long memberId) {
+    }
+
+    public record SearchResult(List<Long> ids, long totalCount) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            postings.clear();
+            documents.clear();
+            livePostings = 0;
+            stalePostings = 0;
+            scheduleRepositoryImpl.streamSchedules(null, null, null, this::put);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("스케줄 검색 색인 생성 완료 : {}건, {}ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    // 생성 / 수정 (title, description 이 모두 있는 row 로 다시 색인)
+    public void index(Schedule schedule) {
+        if (schedule == null || schedule.getId() == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                put(schedule);
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                removeDocument(id);
+                sweepIfNeeded();
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    // 회원 삭제시 회원의 스케줄 제거
+    public void removeByMember(Long memberId) {
+        TransactionHooks.afterCommit(() -> {
+            writeLock.lock();
+            try {
+                List<Long> ids = documents.entrySet().stream()
+                        .filter(entry -> memberId.equals(entry.getValue().memberId()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                ids.forEach(this::removeDocument);
+                sweepIfNeeded();
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색어의 term을 모두 포함하는 스케줄 중 점수가 높은 순서로 offset 부터 limit 개의 id 반환
+     * posting이 가장 짧은 term 기준으로 후보를 순회하고, 상위 offset + limit 개만 heap에 유지
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = ScheduleTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        List<Map<Long, Long>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Long> posting = postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        double documentCount = Math.max(1, documents.size());
+        double[] idf = termPostings.stream()
+                .mapToDouble(posting -> Math.log(1 + documentCount / posting.size()))
+                .toArray();
+
+        int topSize = offset + limit;
+        PriorityQueue<ScoredId> top = new PriorityQueue<>(Comparator.comparingDouble(ScoredId::score).thenComparing(ScoredId::id, Comparator.reverseOrder()));
+        long totalCount = 0;
+
+        for (Map.Entry<Long, Long> candidate : termPostings.get(0).entrySet()) {
+            Long id = candidate.getKey();
+            IndexedSchedule document = documents.get(id);
+            // 삭제됐거나 다시 색인되기 전의 posting 은 건너뜀
+            if (document == null || versionOf(candidate.getValue()) != document.version()) {
+                continue;
+            }
+
+            double score = frequencyOf(candidate.getValue()) * idf[0];
+            boolean matched = true;
+            for (int i = 1; i < termPostings.size(); i++) {
+                Long posting = termPostings.get(i).get(id);
+                if (posting == null || versionOf(posting) != document.version()) {
+                    matched = false;
+                    break;
+                }
+                score += frequencyOf(posting) * idf[i];
+            }
+            if (!matched) {
+                continue;
+            }
+
+            totalCount++;
+            top.offer(new ScoredId(id, score));
+            if (top.size() > topSize) {
+                top.poll();
+            }
+        }
+
+        List<ScoredId> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(ScoredId::score).reversed().thenComparing(ScoredId::id));
+        List<Long> ids = ranked.stream()
+                .skip(offset)
+                .map(ScoredId::id)
+                .toList();
+        return new SearchResult(ids, totalCount);
+    }
+
+    private record ScoredId(Long id, double score) {
+    }
+
+    private void put(Schedule schedule) {
+        removeDocument(schedule.getId());
+
+        Map<String, Integer> frequencies = frequencies(schedule.getTitle(), schedule.getDescription());
+        int version = ++nextVersion;
+        Long memberId = schedule.getMember() != null ? schedule.getMember().getId() : null;
+        documents.put(schedule.getId(), new IndexedSchedule(version, frequencies.size(), memberId));
+        frequencies.forEach((term, frequency) -> {
+            Long previous = postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>())
+                    .put(schedule.getId(), posting(version, frequency));
+            // 같은 term 이 있던 이전 version 의 posting 은 덮어써서 없어짐
+            if (previous != null) {
+                stalePostings--;
+            }
+        });
+        livePostings += frequencies.size();
+        sweepIfNeeded();
+    }
+
+    // 기존 posting 은 그대로 두고 stale 로만 계산 (검색할 때 version 으로 걸러짐)
+    private void removeDocument(Long id) {
+        IndexedSchedule previous = documents.remove(id);
+        if (previous != null) {
+            livePostings -= previous.termCount();
+            stalePostings += previous.termCount();
+        }
+    }
+
+    // stale posting 이 유효한 posting 보다 많아지면 전체 posting 을 한번 순회해서 제거
+    private void sweepIfNeeded() {
+        if (stalePostings <= Math.max(1024, livePostings)) {
+            return;
+        }
+
+        postings.entrySet().removeIf(entry -> {
+            entry.getValue().entrySet().removeIf(posting -> {
+                IndexedSchedule document = documents.get(posting.getKey());
+                return document == null || versionOf(posting.getValue()) != document.version();
+            });
+            return entry.getValue().isEmpty();
+        });
+        stalePostings = 0;
+    }
+
+    private static Map<String, Integer> frequencies(String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : ScheduleTokenizer.tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : ScheduleTokenizer.tokenize(description)) {
+            frequencies.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    // 상위 32bit version, 하위 32bit 빈도
+    private static long posting(int version, int frequency) {
+        return ((long) version << 32) | (frequency & 0xFFFFFFFFL);
+    }
+
+    private static int versionOf(long posting) {
+        return (int) (posting >>> 32);
+    }
+
+    private static int frequencyOf(long posting) {
+        return (int) posting;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.dailyschedule.schedule.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 색인용 tokenizer
+ * 문자/숫자가 아닌 문자로 단어를 나누고 소문자로 변환
+ * 한글 단어는 조사가 붙어도 검색되도록 2글자씩(bigram) 나눔 (예: "회의록을" -> "회의", "의록", "록을")
+ */
+final class ScheduleTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ScheduleTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() > 2 && containsHangul(word)) {
+                for (int i = 0; i + 2 <= word.length(); i++) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            } else {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean containsHangul(String word) {
+        return word.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
+    }
+}
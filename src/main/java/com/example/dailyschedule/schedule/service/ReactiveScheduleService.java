@@ -0,0 +1,60 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.schedule.converter.ScheduleConverter;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.repository.ReactiveScheduleRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+
+/**
+ * 스케줄 조회 전용 non-blocking service
+ * 검증 규칙은 ScheduleServiceImpl 과 같고, 결과가 없으면 CustomException 을 error signal 로 전달
+ */
+@Service
+@ConditionalOnProperty(name = "schedule.reactive.enabled", havingValue = "true")
+public class ReactiveScheduleService {
+
+    private final ReactiveScheduleRepository reactiveScheduleRepository;
+    private final ScheduleConverter scheduleConverter;
+
+    public ReactiveScheduleService(ReactiveScheduleRepository reactiveScheduleRepository, ScheduleConverter scheduleConverter) {
+        this.reactiveScheduleRepository = reactiveScheduleRepository;
+        this.scheduleConverter = scheduleConverter;
+    }
+
+    //id 조회
+    public Mono<ScheduleDto> findById(Long id) {
+        return reactiveScheduleRepository.findScheduleById(id)
+                .switchIfEmpty(Mono.error(new CustomException(ErrorCode.ID_NOT_FOUND)))
+                .map(scheduleConverter::toDto);
+    }
+
+    //update 날짜와 작가로 조회
+    public Flux<ScheduleDto> findByUpdatedDateAndAuthor(Date updatedAt, String author, SearchDto searchDto) {
+        return reactiveScheduleRepository.findSchedulesByUpdatedDateAndAuthor(updatedAt, author, searchDto)
+                .switchIfEmpty(Flux.error(new CustomException(ErrorCode.NOT_FOUND)))
+                .map(scheduleConverter::toDto);
+    }
+
+    //내림차순 조회
+    public Flux<ScheduleDto> findByUpdatedDateDesc(SearchDto searchDto) {
+        return reactiveScheduleRepository.findAllOrderByUpdatedDateDesc(searchDto)
+                .map(scheduleConverter::toDto);
+    }
+
+    //회원 스케줄 조회 (scheduleId 존재 여부 확인 후 목록 조회)
+    public Flux<ScheduleDto> findSchedulesByMemberId(SearchDto searchDto, Long memberId, Long scheduleId) {
+        return reactiveScheduleRepository.findScheduleById(scheduleId)
+                .switchIfEmpty(Mono.error(new CustomException(ErrorCode.NOT_FOUND)))
+                .thenMany(reactiveScheduleRepository.findSchedulesByMemberId(memberId, searchDto))
+                .switchIfEmpty(Flux.error(new CustomException(ErrorCode.NOT_FOUND)))
+                .map(scheduleConverter::toDto);
+    }
+}
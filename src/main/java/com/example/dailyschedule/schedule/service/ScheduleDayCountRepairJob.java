@@ -0,0 +1,48 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.schedule.repository.ScheduleDayCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * schedule_day_count 복구 작업
+ * schedule 테이블 기준으로 회원 id 범위(chunk) 마다 다시 계산, chunk 마다 따로 commit 해서 lock 시간을 짧게 유지
+ * 기본값은 매일 04:00 실행 (schedule.day-count.repair-cron, "-" 이면 실행 안 함)
+ */
+@Slf4j
+@Component
+public class ScheduleDayCountRepairJob {
+
+    private final ScheduleDayCountRepository scheduleDayCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int memberChunkSize;
+
+    public ScheduleDayCountRepairJob(ScheduleDayCountRepository scheduleDayCountRepository, PlatformTransactionManager transactionManager,
+                                     @Value("${schedule.day-count.repair-member-chunk-size:1000}") int memberChunkSize) {
+        this.scheduleDayCountRepository = scheduleDayCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberChunkSize = Math.max(1, memberChunkSize);
+    }
+
+    @Scheduled(cron = "${schedule.day-count.repair-cron:0 0 4 * * *}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        Long maxMemberId = scheduleDayCountRepository.findMaxMemberId();
+        if (maxMemberId == null) {
+            return;
+        }
+
+        long rows = 0;
+        for (long from = 0; from <= maxMemberId; from += memberChunkSize) {
+            long chunkFrom = from;
+            Integer inserted = transactionTemplate.execute(status ->
+                    scheduleDayCountRepository.rebuild(chunkFrom, chunkFrom + memberChunkSize));
+            rows += inserted != null ? inserted : 0;
+        }
+        log.info("날짜별 스케줄 개수 복구 완료 : {} rows, {}ms", rows, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.schedule.dto.ExportFormat;
+import com.example.dailyschedule.schedule.entity.Schedule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+
+/**
+ * 스케줄 export (NDJSON / CSV)
+ * DB에서 streaming 으로 읽은 row를 바로 응답에 쓰기 때문에 export 크기와 상관없이 메모리 사용량이 일정하다.
+ * 비밀번호는 포함하지 않음
+ */
+@Service
+public class ScheduleExportService {
+
+    private static final String CSV_HEADER = "id,title,author,description,created_at,updated_at,deleted_at,member_id";
+
+    private final ScheduleRepositoryImpl scheduleRepositoryImpl;
+    private final ObjectMapper objectMapper;
+
+    public ScheduleExportService(ScheduleRepositoryImpl scheduleRepositoryImpl, ObjectMapper objectMapper) {
+        this.scheduleRepositoryImpl = scheduleRepositoryImpl;
+        this.objectMapper = objectMapper;
+    }
+
+    // readOnly 트랜잭션이라 replica 에서 streaming (primary 에 cursor 를 열거나 쓰기로 기록되지 않음)
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, Date updatedAt, String author, Long memberId, OutputStream out) throws IOException {
+        switch (format) {
+            case NDJSON -> exportNdjson(updatedAt, author, memberId, out);
+            case CSV -> exportCsv(updatedAt, author, memberId, out);
+        }
+    }
+
+    private void exportNdjson(Date updatedAt, String author, Long memberId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null); // 한 줄에 한 row
+            scheduleRepositoryImpl.streamSchedules(updatedAt, author, memberId, schedule -> {
+                try {
+                    writeJson(generator, schedule);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void exportCsv(Date updatedAt, String author, Long memberId, OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            scheduleRepositoryImpl.streamSchedules(updatedAt, author, memberId, schedule -> {
+                try {
+                    writeCsv(writer, schedule);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static void writeJson(JsonGenerator generator, Schedule schedule) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", schedule.getId());
+        generator.writeStringField("title", schedule.getTitle());
+        generator.writeStringField("author", schedule.getAuthor());
+        generator.writeStringField("description", schedule.getDescription());
+        generator.writeStringField("createdAt", toText(schedule.getCreatedAt()));
+        generator.writeStringField("updatedAt", toText(schedule.getUpdatedAt()));
+        generator.writeStringField("deletedAt", toText(schedule.getDeletedAt()));
+        if (schedule.getMember() != null) {
+            generator.writeNumberField("memberId", schedule.getMember().getId());
+        } else {
+            generator.writeNullField("memberId");
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeCsv(Writer writer, Schedule schedule) throws IOException {
+        writer.write(String.valueOf(schedule.getId()));
+        writer.write(',');
+        writeCsvValue(writer, schedule.getTitle());
+        writer.write(',');
+        writeCsvValue(writer, schedule.getAuthor());
+        writer.write(',');
+        writeCsvValue(writer, schedule.getDescription());
+        writer.write(',');
+        writeCsvValue(writer, toText(schedule.getCreatedAt()));
+        writer.write(',');
+        writeCsvValue(writer, toText(schedule.getUpdatedAt()));
+        writer.write(',');
+        writeCsvValue(writer, toText(schedule.getDeletedAt()));
+        writer.write(',');
+        if (schedule.getMember() != null) {
+            writer.write(String.valueOf(schedule.getMember().getId()));
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두번 씀 (RFC 4180)
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String toText(Date date) {
+        return date != null ? date.toString() : null;
+    }
+}
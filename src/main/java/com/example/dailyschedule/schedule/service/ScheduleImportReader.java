@@ -0,0 +1,193 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.member.dto.MemberDto;
+import com.example.dailyschedule.schedule.dto.ExportFormat;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * import 파일(NDJSON / CSV)을 한 건씩 읽는 reader
+ * 파일 전체를 메모리에 올리지 않고 next() 호출마다 다음 한 건만 읽는다.
+ * 형식은 export 결과와 같음 (NDJSON은 camelCase key, CSV는 snake_case header), 날짜는 yyyy-MM-dd
+ * deleted_at 은 삭제 표시라서 읽지 않는다.
+ */
+class ScheduleImportReader implements Closeable {
+
+    // 한 건 읽은 결과 - 파싱에 실패하면 scheduleDto 대신 error
+    record ImportRecord(long line, ScheduleDto scheduleDto, String error) {
+    }
+
+    private final ExportFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    private long line = 0;
+    private Map<String, Integer> csvColumns;
+
+    ScheduleImportReader(ExportFormat format, InputStream in, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    // 더 읽을 것이 없으면 null
+    ImportRecord next() throws IOException {
+        return format == ExportFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private ImportRecord nextNdjson() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                return toRecord(line, text(node, "title"), text(node, "author"), text(node, "description"),
+                        text(node, "password"), text(node, "createdAt"), text(node, "updatedAt"),
+                        text(node, "memberId"));
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(line, null, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns.put(header.get(i) == null ? "" : header.get(i).trim().toLowerCase(), i);
+            }
+        }
+
+        List<String> fields;
+        long startLine;
+        do {
+            startLine = line + 1;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0) == null); // 빈 줄
+
+        return toRecord(startLine, column(fields, "title"), column(fields, "author"), column(fields, "description"),
+                column(fields, "password"), column(fields, "created_at"), column(fields, "updated_at"),
+                column(fields, "member_id"));
+    }
+
+    /**
+     * CSV 한 record 읽기 (RFC 4180), 따옴표 안의 줄바꿈은 같은 record로 처리
+     * 빈 값은 null, 더 읽을 것이 없으면 null 반환
+     */
+    private List<String> readCsvRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int nextChar = reader.read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (nextChar != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(emptyToNull(field));
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(emptyToNull(field));
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        line++; // 마지막 줄에 줄바꿈이 없는 경우
+        fields.add(emptyToNull(field));
+        return fields;
+    }
+
+    private String column(List<String> fields, String name) {
+        Integer index = csvColumns.get(name);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static ImportRecord toRecord(long line, String title, String author, String description, String password,
+                                         String createdAt, String updatedAt, String memberId) {
+        try {
+            ScheduleDto scheduleDto = ScheduleDto.builder()
+                    .title(title)
+                    .author(author)
+                    .description(description)
+                    .password(password)
+                    .createdAt(toDate(createdAt))
+                    .updatedAt(toDate(updatedAt))
+                    .memberDto(memberId != null ? MemberDto.builder().id(Long.parseLong(memberId.trim())).build() : null)
+                    .build();
+            return new ImportRecord(line, scheduleDto, null);
+        } catch (IllegalArgumentException e) {
+            // 날짜 형식 오류, 숫자 형식 오류(NumberFormatException) 모두 포함
+            return new ImportRecord(line, null, "날짜 또는 회원 id 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static Date toDate(String value) {
+        return value != null ? Date.valueOf(value.trim()) : null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String emptyToNull(StringBuilder field) {
+        return field.isEmpty() ? null : field.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.schedule.dto.BatchCreateResultDto;
+import com.example.dailyschedule.schedule.dto.BatchItemResultDto;
+import com.example.dailyschedule.schedule.dto.ExportFormat;
+import com.example.dailyschedule.schedule.dto.ImportErrorDto;
+import com.example.dailyschedule.schedule.dto.ImportResultDto;
+import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스케줄 streaming import (NDJSON / CSV)
+ * 파일을 한 건씩 읽어서 chunk 크기만큼 모이면 ScheduleServiceImpl.createBatch 로 저장하고 버림
+ * (회원 id 일괄 검증 + JDBC batch INSERT), 메모리에는 chunk 하나만 유지한다.
+ */
+@Service
+public class ScheduleImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ScheduleServiceImpl scheduleService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ScheduleImportService(ScheduleServiceImpl scheduleService, ObjectMapper objectMapper,
+                                 @Value("${schedule.batch.chunk-size:500}") int chunkSize) {
+        this.scheduleService = scheduleService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public ImportResultDto importSchedules(ExportFormat format, InputStream in) throws IOException {
+        ImportSummary summary = new ImportSummary();
+        List<ScheduleDto> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        try (ScheduleImportReader reader = new ScheduleImportReader(format, in, objectMapper)) {
+            ScheduleImportReader.ImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.error() != null) {
+                    summary.failure(record.line(), record.error());
+                    continue;
+                }
+
+                chunk.add(record.scheduleDto());
+                chunkLines.add(record.line());
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, chunkLines, summary);
+                }
+            }
+        }
+        flush(chunk, chunkLines, summary);
+
+        return summary.toDto();
+    }
+
+    private void flush(List<ScheduleDto> chunk, List<Long> chunkLines, ImportSummary summary) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        BatchCreateResultDto result = scheduleService.createBatch(chunk);
+        List<BatchItemResultDto> results = result.getResults();
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResultDto item = results.get(i);
+            if (item.isSuccess()) {
+                summary.success();
+            } else {
+                summary.failure(chunkLines.get(i), item.getMessage());
+            }
+        }
+
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    // 성공 결과는 개수만 세고, 실패는 MAX_REPORTED_ERRORS 개까지만 보관
+    private static class ImportSummary {
+        private long successCount;
+        private long failureCount;
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+
+        void success() {
+            successCount++;
+        }
+
+        void failure(long line, String message) {
+            failureCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportErrorDto(line, message));
+            }
+        }
+
+        ImportResultDto toDto() {
+            return new ImportResultDto(successCount + failureCount, successCount, failureCount,
+                    errors, failureCount > errors.size());
+        }
+    }
+}
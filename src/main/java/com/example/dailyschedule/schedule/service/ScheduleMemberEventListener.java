@@ -0,0 +1,30 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.member.event.MemberDeletedEvent;
+import com.example.dailyschedule.schedule.interval.ScheduleIntervalIndex;
+import com.example.dailyschedule.schedule.search.ScheduleSearchIndex;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 이벤트에 따른 스케줄 in-memory 색인 정리
+ * 이벤트는 회원 삭제 트랜잭션 안에서 발행되고, 색인 반영은 각 색인이 commit 이후에 처리한다.
+ */
+@Component
+public class ScheduleMemberEventListener {
+
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+
+    public ScheduleMemberEventListener(ScheduleSearchIndex scheduleSearchIndex, ScheduleIntervalIndex scheduleIntervalIndex) {
+        this.scheduleSearchIndex = scheduleSearchIndex;
+        this.scheduleIntervalIndex = scheduleIntervalIndex;
+    }
+
+    // 회원의 스케줄은 purge 전까지 조회에서 제외됨
+    @EventListener
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        scheduleSearchIndex.removeByMember(event.memberId());
+        scheduleIntervalIndex.removeByMember(event.memberId());
+    }
+}
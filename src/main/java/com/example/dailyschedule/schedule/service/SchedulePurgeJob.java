@@ -0,0 +1,105 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.schedule.repository.SchedulePurgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * soft delete 된 스케줄 / 회원 purge 작업
+ * batch-size 개씩 PK 로 삭제하고 (statement 마다 autocommit), batch 사이에 pause-millis 만큼 쉬어서 DB 부하를 제한한다.
+ * 한번 실행에 max-batches 까지만 처리하고 나머지는 다음 실행에서 이어서 처리한다.
+ * 삭제된 회원은 스케줄을 먼저 나눠서 지운 다음 회원 row 를 지운다.
+ * 처음 row 를 지우기 전에 purge_watermark 를 한번 갱신한다. (목록 ETag 용)
+ */
+@Slf4j
+@Component
+public class SchedulePurgeJob {
+
+    private final SchedulePurgeRepository schedulePurgeRepository;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatches;
+    private final long graceSeconds;
+
+    public SchedulePurgeJob(SchedulePurgeRepository schedulePurgeRepository,
+                            @Value("${schedule.purge.batch-size:500}") int batchSize,
+                            @Value("${schedule.purge.pause-millis:50}") long pauseMillis,
+                            @Value("${schedule.purge.max-batches:100}") int maxBatches,
+                            @Value("${schedule.purge.grace-seconds:60}") long graceSeconds) {
+        this.schedulePurgeRepository = schedulePurgeRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.graceSeconds = Math.max(0, graceSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.purge.interval-millis:10000}")
+    public void purge() {
+        long start = System.currentTimeMillis();
+        int rows = purgeOnce(graceSeconds);
+        if (rows > 0) {
+            log.info("삭제 표시된 데이터 purge 완료 : {} rows, {}ms", rows, System.currentTimeMillis() - start);
+        }
+    }
+
+    //삭제 표시 후 graceSeconds 가 지난 데이터를 최대 max-batches 번 삭제, 삭제한 row 수 반환
+    public int purgeOnce(long graceSeconds) {
+        int batches = 0;
+        int rows = 0;
+        boolean watermarkTouched = false;
+
+        // 1. 삭제된 회원 : 회원의 스케줄을 나눠서 지우고 회원 row 삭제
+        for (Long memberId : schedulePurgeRepository.findPurgeableMemberIds(graceSeconds, maxBatches)) {
+            while (true) {
+                if (batches >= maxBatches || !pause(batches)) {
+                    return rows;
+                }
+                batches++;
+
+                if (!watermarkTouched) {
+                    schedulePurgeRepository.touchWatermark();
+                    watermarkTouched = true;
+                }
+                List<Long> scheduleIds = schedulePurgeRepository.findScheduleIdsOfMember(memberId, batchSize);
+                if (scheduleIds.isEmpty()) {
+                    rows += schedulePurgeRepository.deleteMember(memberId);
+                    break;
+                }
+                rows += schedulePurgeRepository.deleteSchedules(scheduleIds);
+            }
+        }
+
+        // 2. 삭제된 스케줄
+        while (batches < maxBatches && pause(batches)) {
+            batches++;
+            List<Long> scheduleIds = schedulePurgeRepository.findPurgeableScheduleIds(graceSeconds, batchSize);
+            if (scheduleIds.isEmpty()) {
+                break;
+            }
+            if (!watermarkTouched) {
+                schedulePurgeRepository.touchWatermark();
+                watermarkTouched = true;
+            }
+            rows += schedulePurgeRepository.deleteSchedules(scheduleIds);
+        }
+        return rows;
+    }
+
+    // 첫 batch 가 아니면 pause-millis 만큼 대기, interrupt 되면 false
+    private boolean pause(int batches) {
+        if (batches == 0 || pauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
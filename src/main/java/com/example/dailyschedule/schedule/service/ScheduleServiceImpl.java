@@ -1,5 +1,6 @@
 package com.example.dailyschedule.schedule.service;
 
+import com.example.dailyschedule.common.memo.RequestQueryMemo;
 import com.example.dailyschedule.error.CustomException;
 import com.example.dailyschedule.error.type.ErrorCode;
 import com.example.dailyschedule.member.converter.MemberConverter;
@@ -8,37 +9,96 @@ import com.example.dailyschedule.member.entity.Member;
 import com.example.dailyschedule.member.repository.MemberRepository;
 import com.example.dailyschedule.member.service.MemberService;
 import com.example.dailyschedule.schedule.converter.ScheduleConverter;
+import com.example.dailyschedule.schedule.dto.BatchCreateResultDto;
+import com.example.dailyschedule.schedule.dto.BatchItemResultDto;
+import com.example.dailyschedule.schedule.dto.CursorPageDto;
+import com.example.dailyschedule.schedule.dto.DayCountDto;
+import com.example.dailyschedule.schedule.dto.MonthSummaryDto;
+import com.example.dailyschedule.schedule.dto.ScheduleListVersion;
 import com.example.dailyschedule.schedule.dto.SearchDto;
 import com.example.dailyschedule.schedule.dto.SingleDateScheduleDto;
+import com.example.dailyschedule.schedule.dto.TitleAndAuthorUpdate;
 import com.example.dailyschedule.schedule.dto.UpdatedScheduleDto;
 import com.example.dailyschedule.schedule.entity.Schedule;
 import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.interval.ScheduleIntervalIndex;
+import com.example.dailyschedule.schedule.repository.ScheduleDayCountRepository;
+import com.example.dailyschedule.schedule.recurrence.RecurrenceRule;
 import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import com.example.dailyschedule.schedule.search.ScheduleSearchIndex;
 import com.example.dailyschedule.schedule.validation.ScheduleValidation;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class ScheduleServiceImpl {
 
+    // 발생일 목록 한번에 최대 개수
+    private static final int MAX_OCCURRENCES = 1000;
+    // 겹치는 스케줄 목록 한번에 최대 개수
+    private static final int MAX_OVERLAPS = 1000;
+    // 발생일 목록 계산에 사용하는 회원의 반복 스케줄 최대 개수
+    private static final int MAX_RECURRING_SERIES = 1000;
+
     private final ScheduleRepositoryImpl scheduleRepositoryImpl;
     private final ScheduleConverter scheduleConverter;
     private final ScheduleValidation scheduleValidation;
     private final MemberService memberService;
     private final MemberConverter memberConverter;
+    private final MemberRepository memberRepository;
+    private final RequestQueryMemo queryMemo;
+    private final ScheduleSearchIndex scheduleSearchIndex;
+    private final ScheduleDayCountRepository scheduleDayCountRepository;
+    private final ScheduleUpdateBatcher scheduleUpdateBatcher;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchChunkSize;
 
     //생성자 주입
-    public ScheduleServiceImpl(ScheduleRepositoryImpl scheduleRepositoryImpl, ScheduleConverter scheduleConverter, MemberRepository memberRepository, MemberConverter memberConverter, MemberService memberService) {
+    public ScheduleServiceImpl(ScheduleRepositoryImpl scheduleRepositoryImpl, ScheduleConverter scheduleConverter, MemberRepository memberRepository, MemberConverter memberConverter, MemberService memberService,
+                               RequestQueryMemo queryMemo, ScheduleSearchIndex scheduleSearchIndex,
+                               ScheduleDayCountRepository scheduleDayCountRepository, ScheduleUpdateBatcher scheduleUpdateBatcher,
+                               ScheduleIntervalIndex scheduleIntervalIndex, PlatformTransactionManager transactionManager,
+                               @Value("${schedule.batch.chunk-size:500}") int batchChunkSize) {
         this.scheduleRepositoryImpl = scheduleRepositoryImpl;
         this.scheduleConverter = scheduleConverter;
         this.memberService = memberService;
-        this.scheduleValidation = new ScheduleValidation(scheduleRepositoryImpl, memberRepository);
+        this.scheduleValidation = new ScheduleValidation(scheduleRepositoryImpl, queryMemo);
         this.memberConverter = memberConverter;
+        this.memberRepository = memberRepository;
+        this.queryMemo = queryMemo;
+        this.scheduleSearchIndex = scheduleSearchIndex;
+        this.scheduleDayCountRepository = scheduleDayCountRepository;
+        this.scheduleUpdateBatcher = scheduleUpdateBatcher;
+        this.scheduleIntervalIndex = scheduleIntervalIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchChunkSize = Math.max(1, batchChunkSize);
     }
 
     //생성
@@ -55,18 +115,179 @@ public class ScheduleServiceImpl {
         // 중복 ID 검증
         scheduleValidation.validationOfDuplicateId(scheduleDto.getId());
 
+        // 같은 회원의 다른 스케줄과 시간이 겹치는지 검증
+        Schedule schedule = scheduleConverter.toEntityIncludeMember(scheduleDto, member);
+        scheduleIntervalIndex.checkConflict(member.getId(), null, schedule.getStartAt(), schedule.getEndAt());
+
         // Member 객체를 함께 전달하여 Schedule 생성
-        Schedule saveSchedule = scheduleRepositoryImpl.createSchedule(scheduleConverter.toEntityIncludeMember(scheduleDto, member), member);
+        Schedule saveSchedule = scheduleRepositoryImpl.createSchedule(schedule, member);
+        scheduleSearchIndex.index(saveSchedule);
+        scheduleIntervalIndex.index(saveSchedule);
 
         // ScheduleDto 반환
         return scheduleConverter.toDto(saveSchedule);
     }
 
+    /**
+     * 여러 스케줄 일괄 생성
+     * chunk 단위로 회원 id를 한번에 검증하고, chunk 당 JDBC batch INSERT 한번으로 저장
+     * chunk 마다 따로 commit 되기 때문에 일부가 실패해도 나머지는 저장되고, 항목별 결과를 반환
+     */
+    public BatchCreateResultDto createBatch(List<ScheduleDto> scheduleDtos) {
+        if (scheduleDtos == null || scheduleDtos.isEmpty()) {
+            throw new CustomException(ErrorCode.CREATION_FAILED);
+        }
+
+        List<BatchItemResultDto> results = new ArrayList<>(scheduleDtos.size());
+        for (int from = 0; from < scheduleDtos.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, scheduleDtos.size());
+            results.addAll(createChunk(scheduleDtos.subList(from, to), from));
+        }
+        return BatchCreateResultDto.of(results);
+    }
+
+    private List<BatchItemResultDto> createChunk(List<ScheduleDto> chunk, int baseIndex) {
+        BatchItemResultDto[] results = new BatchItemResultDto[chunk.size()];
+
+        // chunk 안의 회원 id를 한번에 조회
+        Set<Long> memberIds = chunk.stream()
+                .map(ScheduleDto::getMemberDto)
+                .filter(Objects::nonNull)
+                .map(MemberDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingMemberIds = memberRepository.findExistingIds(memberIds);
+
+        List<Schedule> candidates = new ArrayList<>();
+        List<Integer> candidatePositions = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ScheduleDto scheduleDto = chunk.get(i);
+            MemberDto memberDto = scheduleDto.getMemberDto();
+
+            if (memberDto == null || memberDto.getId() == null || !existingMemberIds.contains(memberDto.getId())) {
+                results[i] = BatchItemResultDto.failure(baseIndex + i, ErrorCode.INVALID_MEMBER_INFO.getMessage());
+                continue;
+            }
+            if (scheduleDto.getTitle() == null || scheduleDto.getCreatedAt() == null) {
+                results[i] = BatchItemResultDto.failure(baseIndex + i, ErrorCode.CREATION_FAILED.getMessage());
+                continue;
+            }
+
+            Member member = Member.builder().id(memberDto.getId()).build();
+            try {
+                candidates.add(scheduleConverter.toEntityIncludeMember(scheduleDto, member));
+                candidatePositions.add(i);
+            } catch (CustomException e) {
+                // 잘못된 반복 규칙, 시작/종료 시각
+                results[i] = BatchItemResultDto.failure(baseIndex + i, e.getErrorCode().getMessage());
+            }
+        }
+
+        // 중복 예약 검사 ~ commit 까지 회원 lock 을 잡기 위해 chunk 를 한 트랜잭션으로 저장 (afterCompletion 에서 lock 해제)
+        // 여러 회원의 lock 을 잡기 때문에 교착 상태가 생기지 않도록 회원 id 순서로 검사 (같은 회원 안에서는 입력 순서 유지)
+        List<Integer> order = new ArrayList<>();
+        for (int j = 0; j < candidates.size(); j++) {
+            order.add(j);
+        }
+        order.sort(Comparator.comparing(j -> candidates.get(j).getMember().getId()));
+
+        List<Schedule> valid = new ArrayList<>();
+        List<Integer> validPositions = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int j : order) {
+                    Schedule schedule = candidates.get(j);
+                    int position = candidatePositions.get(j);
+                    // 이미 저장된 스케줄, 같은 chunk 의 앞 항목과 시간이 겹치는지 검증
+                    if (hasConflict(schedule, valid)) {
+                        results[position] = BatchItemResultDto.failure(baseIndex + position, ErrorCode.SCHEDULE_CONFLICT.getMessage());
+                        continue;
+                    }
+                    valid.add(schedule);
+                    validPositions.add(position);
+                }
+
+                List<Long> generatedIds = scheduleRepositoryImpl.createSchedules(valid);
+                for (int j = 0; j < validPositions.size(); j++) {
+                    int position = validPositions.get(j);
+                    results[position] = BatchItemResultDto.success(baseIndex + position, generatedIds.get(j));
+                    Schedule saved = withId(valid.get(j), generatedIds.get(j));
+                    scheduleSearchIndex.index(saved);
+                    scheduleIntervalIndex.index(saved);
+                }
+            });
+        } catch (DataAccessException e) {
+            // batch 전체가 실패하면 어떤 항목이 문제인지 알 수 없기 때문에 해당 chunk만 한 건씩 다시 시도
+            log.error("일괄 생성에 실패해 한 건씩 다시 시도합니다. : {}", e.getMessage());
+            for (int j = 0; j < validPositions.size(); j++) {
+                int position = validPositions.get(j);
+                Schedule schedule = valid.get(j);
+                try {
+                    Long id = transactionTemplate.execute(status -> {
+                        scheduleIntervalIndex.checkConflict(schedule.getMember().getId(), null, schedule.getStartAt(), schedule.getEndAt());
+                        Schedule saved = scheduleRepositoryImpl.createSchedule(schedule, schedule.getMember());
+                        scheduleSearchIndex.index(saved);
+                        scheduleIntervalIndex.index(saved);
+                        return saved.getId();
+                    });
+                    results[position] = BatchItemResultDto.success(baseIndex + position, id);
+                } catch (CustomException rowException) {
+                    results[position] = BatchItemResultDto.failure(baseIndex + position, rowException.getErrorCode().getMessage());
+                } catch (DataAccessException rowException) {
+                    results[position] = BatchItemResultDto.failure(baseIndex + position, ErrorCode.CREATION_FAILED.getMessage());
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private static Schedule withId(Schedule schedule, Long id) {
+        return Schedule.builder()
+                .id(id)
+                .title(schedule.getTitle())
+                .author(schedule.getAuthor())
+                .password(schedule.getPassword())
+                .description(schedule.getDescription())
+                .createdAt(schedule.getCreatedAt())
+                .updatedAt(schedule.getUpdatedAt())
+                .recurrenceRule(schedule.getRecurrenceRule())
+                .recurrenceExceptions(schedule.getRecurrenceExceptions())
+                .recurrenceUntil(schedule.getRecurrenceUntil())
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
+                .member(schedule.getMember())
+                .build();
+    }
+
+    // 시간 색인은 commit 이후에 반영되기 때문에 같은 chunk 안의 항목끼리는 직접 비교
+    // checkConflict 는 트랜잭션이 끝날 때까지 회원 lock 을 잡음 (겹쳐서 실패해도 lock 은 잡힌 상태)
+    private boolean hasConflict(Schedule schedule, List<Schedule> chunk) {
+        if (schedule.getStartAt() == null) {
+            return false;
+        }
+        Long memberId = schedule.getMember().getId();
+        try {
+            scheduleIntervalIndex.checkConflict(memberId, null, schedule.getStartAt(), schedule.getEndAt());
+        } catch (CustomException e) {
+            return true;
+        }
+        return chunk.stream()
+                .filter(other -> other.getStartAt() != null && memberId.equals(other.getMember().getId()))
+                .anyMatch(other -> other.getStartAt().before(schedule.getEndAt()) && other.getEndAt().after(schedule.getStartAt()));
+    }
+
     //update
     @Transactional
     public ScheduleDto update(MemberDto memberDto, ScheduleDto scheduleDto) {
         Member member = memberConverter.toEntity(memberService.findById(memberDto.getId()));
-        Schedule updateSchedule = scheduleRepositoryImpl.updateSchedule(member, scheduleConverter.toEntityIncludeMember(scheduleDto, member));
+        Schedule schedule = scheduleConverter.toEntityIncludeMember(scheduleDto, member);
+        scheduleIntervalIndex.checkConflict(member.getId(), schedule.getId(), schedule.getStartAt(), schedule.getEndAt());
+
+        Schedule updateSchedule = scheduleRepositoryImpl.updateSchedule(member, schedule);
+        queryMemo.clear();
+        scheduleSearchIndex.index(updateSchedule);
+        scheduleIntervalIndex.index(updateSchedule);
         return scheduleConverter.toDto(updateSchedule);
     }
 
@@ -77,12 +298,28 @@ public class ScheduleServiceImpl {
         return scheduleConverter.toDto(existId);
     }
 
+    //조건부 GET 용 목록 validator (memberId 가 null 이면 전체 목록)
+    @Transactional(readOnly = true)
+    public ScheduleListVersion findListVersion(Long memberId) {
+        return scheduleRepositoryImpl.findListVersion(memberId);
+    }
+
     //update 날짜와 작가 불러오기
     @Transactional(readOnly = true)
     public Page<ScheduleDto> findByUpdatedDateAndAuthor(Date updatedAt, String author, SearchDto searchDto) {
-        scheduleValidation.validateUpdateDateAndAuthor(updatedAt, author, searchDto);
-        // 모든 결과를 리스트 형태로 반환
+        // 한번만 조회하고, 조회한 결과로 검증
         Page<Schedule> schedules = scheduleRepositoryImpl.findSchedulesByUpdatedDateAndAuthor(updatedAt, author, searchDto);
+        scheduleValidation.validateUpdateDateAndAuthor(schedules.getContent());
+        return schedules.map(scheduleConverter::toDto);
+    }
+
+    //update 날짜와 작가 불러오기 (COUNT 없이 Slice로 반환)
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findByUpdatedDateAndAuthorSlice(Date updatedAt, String author, SearchDto searchDto) {
+        Slice<Schedule> schedules = scheduleRepositoryImpl.findSchedulesByUpdatedDateAndAuthorSlice(updatedAt, author, searchDto);
+        if (schedules.isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
         return schedules.map(scheduleConverter::toDto);
     }
 
@@ -104,7 +341,21 @@ public class ScheduleServiceImpl {
         return byUpdatedDateByDesc.map(scheduleConverter::toDto);
     }
 
-    //일정 조회
+    //내림차순 조회 (COUNT 없이 Slice로 반환)
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findByUpdatedDateDescSlice(SearchDto searchDto) {
+        Slice<Schedule> schedules = scheduleRepositoryImpl.findAllOrderByUpdatedDateDescSlice(searchDto);
+        return schedules.map(scheduleConverter::toDto);
+    }
+
+    //cursor 방식 내림차순 조회
+    @Transactional(readOnly = true)
+    public CursorPageDto<ScheduleDto> findByUpdatedDateDescWithCursor(SearchDto searchDto) {
+        CursorPageDto<Schedule> schedules = scheduleRepositoryImpl.findAllOrderByUpdatedDateDescWithCursor(searchDto);
+        return schedules.map(scheduleConverter::toDto);
+    }
+
+    //일정 조회 (해당 날짜에 발생하는 반복 스케줄 포함)
     @Transactional(readOnly = true)
     public Page<ScheduleDto> findByDate(Date date, SearchDto searchDto) {
         Page<Schedule> findDates = scheduleRepositoryImpl.findByDate(date, searchDto);
@@ -112,21 +363,68 @@ public class ScheduleServiceImpl {
             throw new CustomException(ErrorCode.NOT_FOUND);
         }
 
-        return findDates.map(scheduleConverter::toDto);
+        return findDates.map(schedule -> toDtoOnDate(schedule, date));
+    }
+
+    //일정 조회 (COUNT 없이 Slice로 반환)
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findByDateSlice(Date date, SearchDto searchDto) {
+        Slice<Schedule> findDates = scheduleRepositoryImpl.findByDateSlice(date, searchDto);
+        if (findDates.isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+
+        return findDates.map(schedule -> toDtoOnDate(schedule, date));
+    }
+
+    // 반복 스케줄이 조회한 날짜에 발생하면 발생일로 표시 (페이지에 포함된 스케줄만 해당 날짜 하나를 계산)
+    // 시작일이 BYDAY 에 없는 요일이면 생성일로는 조회되지만 발생일은 아님
+    private ScheduleDto toDtoOnDate(Schedule schedule, Date date) {
+        LocalDate day = date.toLocalDate();
+        boolean occurring = schedule.getRecurrenceRule() != null
+                && RecurrenceRule.parse(schedule.getRecurrenceRule()).occursOn(schedule.getCreatedAt().toLocalDate(),
+                        RecurrenceRule.parseExceptions(schedule.getRecurrenceExceptions()), day);
+        return occurring
+                ? scheduleConverter.toOccurrenceDto(schedule, day)
+                : scheduleConverter.toDto(schedule);
+    }
+
+    //title, description 키워드 검색 (점수 순)
+    @Transactional(readOnly = true)
+    public Page<ScheduleDto> searchByKeyword(String keyword, SearchDto searchDto) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_KEYWORD);
+        }
+
+        int limit = searchDto.getLimit();
+        int offset = searchDto.getOffset();
+        ScheduleSearchIndex.SearchResult result = scheduleSearchIndex.search(keyword, offset, limit);
+        if (result.totalCount() == 0) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+
+        List<ScheduleDto> schedules = scheduleRepositoryImpl.findSchedulesByIds(result.ids()).stream()
+                .map(scheduleConverter::toDto)
+                .toList();
+        return new PageImpl<>(schedules, PageRequest.of(offset / limit, limit), result.totalCount());
     }
 
     //Lv2
     //날짜와 작가명 수정
-    @Transactional
+    //UPDATE 한번이라 트랜잭션을 열지 않음 (group commit 이 켜져 있으면 ScheduleUpdateBatcher 가 다른 요청의 수정과 모아서 commit)
     public ScheduleDto updateTitleAndAuthor(Long scheduleId, UpdatedScheduleDto updatedScheduleDto) {
-        // 기존 일정 조회
-        Schedule existingSchedule = scheduleRepositoryImpl.findScheduleById(scheduleId);
-        // 변경 사항을 포함한 새로운 Schedule 생성
-        Schedule updatedSchedule = scheduleValidation.validateAndPrepareUpdatedSchedule(updatedScheduleDto, existingSchedule);
-        // 업데이트된 스케줄을 저장소에 반영
-        scheduleRepositoryImpl.updateSchedule(existingSchedule.getMember(), updatedSchedule);
-        // DTO로 변환하여 반환
-        return scheduleConverter.toDto(updatedSchedule);
+        Date updatedAt = new Date(System.currentTimeMillis()); // 수정일을 현재 시점으로 설정
+
+        // 비밀번호 검증과 수정을 UPDATE 한번으로 처리
+        int updatedRows = scheduleUpdateBatcher.update(new TitleAndAuthorUpdate(
+                scheduleId, updatedScheduleDto.getPassword(), updatedScheduleDto.getTitle(), updatedScheduleDto.getAuthor(), updatedAt));
+        scheduleValidation.validateConditionalWrite(updatedRows, scheduleId);
+        queryMemo.clear();
+
+        // batch 가 commit 된 다음에 (캐시 evict 이후) 수정된 row 를 다시 읽어서 전체 항목으로 반환, 검색 색인도 같은 row 로 갱신
+        Schedule updated = scheduleValidation.validateExistId(scheduleId);
+        scheduleSearchIndex.index(updated);
+        return scheduleConverter.toDto(updated);
     }
 
 
@@ -134,46 +432,166 @@ public class ScheduleServiceImpl {
     //삭제
     @Transactional
     public void deleteById(Long id, String password) {
-        Schedule existSchedule = scheduleRepositoryImpl.findScheduleById(id);
-        scheduleValidation.deleteByScheduleById(id, password, existSchedule);
-        scheduleRepositoryImpl.deleteScheduleById(existSchedule.getId());
+        // 비밀번호 검증과 삭제를 DELETE 한번으로 처리
+        int deletedRows = scheduleRepositoryImpl.deleteScheduleByIdAndPassword(id, password);
+        scheduleValidation.validateConditionalWrite(deletedRows, id);
+        queryMemo.clear();
+        scheduleSearchIndex.remove(id);
+        scheduleIntervalIndex.remove(id);
     }
 
     //Lv3
     @Transactional(readOnly = true)
     public Page<ScheduleDto> findSchedulesByMemberId(SearchDto searchDto,Long memberId, Long scheduleId) {
-        // 검증: 해당 회원과 스케줄이 존재하는지 확인
-        scheduleValidation.validationOfFindScheduleByMemberId(ScheduleDto.builder().id(scheduleId).build(), MemberDto.builder().id(memberId).build());
-
         Page<Schedule> schedules = scheduleRepositoryImpl.findSchedulesByMemberId(memberId, searchDto);
-        if (schedules.isEmpty()) {
-            throw new CustomException(ErrorCode.NOT_FOUND);
-        }
+        // 검증: 조회 결과로 해당 회원과 스케줄이 존재하는지 확인
+        scheduleValidation.validationOfFindScheduleByMemberId(scheduleId, schedules.getContent());
 
         return schedules.map(scheduleConverter::toDto);
     }
 
+    //Lv3 (COUNT 없이 Slice로 반환)
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findSchedulesByMemberIdSlice(SearchDto searchDto, Long memberId, Long scheduleId) {
+        Slice<Schedule> schedules = scheduleRepositoryImpl.findSchedulesByMemberIdSlice(memberId, searchDto);
+        scheduleValidation.validationOfFindScheduleByMemberId(scheduleId, schedules.getContent());
+
+        return schedules.map(scheduleConverter::toDto);
+    }
+
+    //Lv3 cursor 방식
+    @Transactional(readOnly = true)
+    public CursorPageDto<ScheduleDto> findSchedulesByMemberIdWithCursor(SearchDto searchDto, Long memberId, Long scheduleId) {
+        CursorPageDto<Schedule> schedules = scheduleRepositoryImpl.findSchedulesByMemberIdWithCursor(memberId, searchDto);
+        scheduleValidation.validationOfFindScheduleByMemberId(scheduleId, schedules.getContent());
+
+        return schedules.map(scheduleConverter::toDto);
+    }
+
+    //회원의 월별 날짜별 스케줄 개수 (달력 화면용)
+    @Transactional(readOnly = true)
+    public MonthSummaryDto findMonthSummary(Long memberId, String month) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_MONTH);
+        }
+
+        List<DayCountDto> days = scheduleDayCountRepository.findDayCounts(memberId,
+                Date.valueOf(yearMonth.atDay(1)), Date.valueOf(yearMonth.plusMonths(1).atDay(1)));
+        long totalCount = days.stream().mapToLong(DayCountDto::getCount).sum();
+        return new MonthSummaryDto(memberId, yearMonth.toString(), totalCount, days);
+    }
+
+    /**
+     * 회원의 [from, to] 기간 발생일 목록 (발생일, id 순)
+     * 스케줄 마다 기간 안의 발생일만 하나씩 계산하고, 날짜 순으로 합치다가 limit 개가 되면 멈춘다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findOccurrences(Long memberId, Date from, Date to, int limit) {
+        if (from == null || to == null || from.after(to) || limit <= 0) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        int size = Math.min(limit, MAX_OCCURRENCES);
+        LocalDate start = from.toLocalDate();
+        LocalDate end = to.toLocalDate();
+
+        // 반복이 아닌 스케줄은 size + 1 개까지만 필요
+        PriorityQueue<OccurrenceCursor> cursors = new PriorityQueue<>();
+        List<Schedule> schedules = scheduleRepositoryImpl.findSchedulesOfMemberBetween(memberId, from, to, size + 1, MAX_RECURRING_SERIES);
+        if (schedules.stream().filter(schedule -> schedule.getRecurrenceRule() != null).count() >= MAX_RECURRING_SERIES) {
+            log.warn("회원의 반복 스케줄이 {}개 이상이라 일부만 발생일을 계산합니다. memberId : {}", MAX_RECURRING_SERIES, memberId);
+        }
+        for (Schedule schedule : schedules) {
+            Iterator<LocalDate> dates = schedule.getRecurrenceRule() == null
+                    ? List.of(schedule.getCreatedAt().toLocalDate()).iterator()
+                    : RecurrenceRule.parse(schedule.getRecurrenceRule()).occurrences(schedule.getCreatedAt().toLocalDate(),
+                            RecurrenceRule.parseExceptions(schedule.getRecurrenceExceptions()), start);
+            OccurrenceCursor cursor = new OccurrenceCursor(schedule, dates);
+            if (cursor.advance(end)) {
+                cursors.add(cursor);
+            }
+        }
+
+        // limit + 1 번째 발생일이 있으면 hasNext
+        List<ScheduleDto> occurrences = new ArrayList<>();
+        while (!cursors.isEmpty() && occurrences.size() <= size) {
+            OccurrenceCursor cursor = cursors.poll();
+            Schedule schedule = cursor.schedule;
+            occurrences.add(schedule.getRecurrenceRule() == null
+                    ? scheduleConverter.toDto(schedule)
+                    : scheduleConverter.toOccurrenceDto(schedule, cursor.date));
+            if (cursor.advance(end)) {
+                cursors.add(cursor);
+            }
+        }
+
+        boolean hasNext = occurrences.size() > size;
+        return new SliceImpl<>(hasNext ? occurrences.subList(0, size) : occurrences, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 회원의 [from, to) 와 시간이 겹치는 스케줄 (시작 시각 순)
+     * 시간 색인에서 id 만 찾고, 찾은 id 로 한번에 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<ScheduleDto> findOverlapping(Long memberId, Timestamp from, Timestamp to, int limit) {
+        if (from == null || to == null || !to.after(from) || limit <= 0) {
+            throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        int size = Math.min(limit, MAX_OVERLAPS);
+
+        // limit + 1 번째가 있으면 hasNext
+        List<Long> ids = scheduleIntervalIndex.findOverlapping(memberId, from, to, size + 1);
+        boolean hasNext = ids.size() > size;
+        List<ScheduleDto> schedules = scheduleRepositoryImpl.findSchedulesByIds(hasNext ? ids.subList(0, size) : ids).stream()
+                .map(scheduleConverter::toDto)
+                .toList();
+        return new SliceImpl<>(schedules, PageRequest.of(0, size), hasNext);
+    }
+
     //스케줄 Id memberId 동시 조회
     @Transactional(readOnly = true)
     public ScheduleDto findScheduleByMemberId(Long memberId, Long scheduleId) {
-        // 검증: 해당 회원과 스케줄이 존재하는지 확인
-        scheduleValidation.validationOfFindScheduleByMemberId(ScheduleDto.builder()
-                .id(scheduleId).build(), MemberDto.builder().id(memberId).build());
-
-        // 검증이 통과하면 조회 진행
         Schedule schedule = scheduleRepositoryImpl.findSingleScheduleByMemberId(memberId);
-        if (schedule == null) {
-            throw new CustomException(ErrorCode.NOT_FOUND);
-        }
+        // 검증: 조회 결과로 해당 회원과 스케줄이 존재하는지 확인
+        scheduleValidation.validationOfFindScheduleByMemberId(scheduleId, schedule == null ? List.of() : List.of(schedule));
 
         return scheduleConverter.toDto(schedule);
     }
 
 
+    // 스케줄 하나의 다음 발생일 (발생일, id 순으로 정렬)
+    private static final class OccurrenceCursor implements Comparable<OccurrenceCursor> {
+        private final Schedule schedule;
+        private final Iterator<LocalDate> dates;
+        private LocalDate date;
+
+        private OccurrenceCursor(Schedule schedule, Iterator<LocalDate> dates) {
+            this.schedule = schedule;
+            this.dates = dates;
+        }
+
+        // 기간 안에 다음 발생일이 있으면 true
+        private boolean advance(LocalDate end) {
+            if (!dates.hasNext()) {
+                return false;
+            }
+            date = dates.next();
+            return !date.isAfter(end);
+        }
+
+        @Override
+        public int compareTo(OccurrenceCursor other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : schedule.getId().compareTo(other.schedule.getId());
+        }
+    }
+
     /**
      * created_at
      * updated_at
-     * deleted_at
      * 조건 날짜에 따라 조회 할 수 있는 메서드
      */
     private static SingleDateScheduleDto getSingleDateScheduleDto(String field, Schedule findDate) {
@@ -186,8 +604,6 @@ public class ScheduleServiceImpl {
             case "updated_at":
                 selectDate = findDate.getUpdatedAt();
                 break;
-            case "deleted_at":
-                selectDate = findDate.getDeletedAt();
             default:
                 throw new IllegalArgumentException("유효하지 않은 필드 이름입니다.");
         }
@@ -0,0 +1,256 @@
+package com.example.dailyschedule.schedule.service;
+
+import com.example.dailyschedule.common.cache.ScheduleCacheEvictor;
+import com.example.dailyschedule.common.datasource.QueryStatistics;
+import com.example.dailyschedule.common.datasource.ReadYourWritesTracker;
+import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.schedule.dto.TitleAndAuthorUpdate;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 제목, 작성자 수정 group commit
+ * 여러 요청의 수정을 queue 에 모았다가 max-delay-millis 마다 또는 max-batch-size 개가 모이면
+ * JDBC batch 한번 + 트랜잭션 한번으로 실행하고, commit 이후에 각 호출에 수정된 row 수를 돌려준다.
+ * flusher thread 에서 실행한 statement 는 호출한 요청의 QueryStatistics 에 더한다. (묶인 batch 의 statement 를 호출마다 기록)
+ * batch 가 실패하면 (한 row 의 오류로 전체 rollback) 하나씩 다시 실행해서 실패는 해당 호출에만 전달한다.
+ * 기본값은 꺼져 있고 (schedule.update-batch.enabled), 꺼져 있거나 호출하는 쪽에 트랜잭션이 있으면 바로 실행한다.
+ * 호출하는 쪽은 wait-timeout-millis 까지만 기다리고, flusher 에서 예상하지 못한 오류가 나도 해당 batch 만 실패시키고 계속 실행한다.
+ */
+@Slf4j
+@Component
+public class ScheduleUpdateBatcher {
+
+    public static final String BATCH_SIZE = "schedule.update.batch.size";
+
+    private final ScheduleRepositoryImpl scheduleRepositoryImpl;
+    private final ScheduleCacheEvictor scheduleCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DistributionSummary batchSizes;
+    private final BlockingQueue<PendingUpdate> queue;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long waitTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ScheduleUpdateBatcher(ScheduleRepositoryImpl scheduleRepositoryImpl, ScheduleCacheEvictor scheduleCacheEvictor,
+                                 PlatformTransactionManager transactionManager, ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${schedule.update-batch.enabled:false}") boolean enabled,
+                                 @Value("${schedule.update-batch.max-batch-size:100}") int maxBatchSize,
+                                 @Value("${schedule.update-batch.max-delay-millis:5}") long maxDelayMillis,
+                                 @Value("${schedule.update-batch.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${schedule.update-batch.wait-timeout-millis:5000}") long waitTimeoutMillis) {
+        this.scheduleRepositoryImpl = scheduleRepositoryImpl;
+        this.scheduleCacheEvictor = scheduleCacheEvictor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readYourWritesTracker = readYourWritesTracker.getIfAvailable();
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE)
+                .baseUnit("updates")
+                .publishPercentileHistogram()
+                .maximumExpectedValue((double) Math.max(1, maxBatchSize))
+                .register(meterRegistry);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+        this.waitTimeoutMillis = Math.max(1, waitTimeoutMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("schedule-update-batcher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join();
+
+        // 종료 전에 queue 에 남은 수정 처리
+        List<PendingUpdate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+            flush(remaining.subList(from, Math.min(from + maxBatchSize, remaining.size())));
+        }
+    }
+
+    //수정된 row 수 반환 (0 이면 id가 없거나 비밀번호가 틀린 경우)
+    public int update(TitleAndAuthorUpdate update) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return updateDirectly(update);
+        }
+        if (!running) {
+            return updateWithoutTransaction(update);
+        }
+
+        PendingUpdate pending = new PendingUpdate(update, new CompletableFuture<>());
+        // queue 가 가득 찼거나, 넣는 사이에 종료가 시작돼서 다시 꺼낼 수 있으면 바로 실행
+        if (!queue.offer(pending) || (!running && queue.remove(pending))) {
+            return updateWithoutTransaction(update);
+        }
+
+        UpdateResult result;
+        try {
+            result = pending.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            log.error("스케줄 수정 batch 실행에 실패했습니다. id : {}", update.getId(), e.getCause());
+            throw new CustomException(ErrorCode.UPDATE_FAILED);
+        } catch (TimeoutException e) {
+            // 아직 flusher 가 꺼내지 않았으면 직접 실행, 이미 실행 중이면 결과를 알 수 없어서 실패로 응답
+            if (queue.remove(pending)) {
+                return updateWithoutTransaction(update);
+            }
+            log.error("스케줄 수정 batch 응답 대기 시간을 초과했습니다. id : {}", update.getId());
+            throw new CustomException(ErrorCode.UPDATE_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.UPDATE_FAILED);
+        }
+
+        // 다른 thread 에서 실행했기 때문에 statement 개수와 read-your-writes 기록은 호출한 요청에서 직접
+        QueryStatistics.add(result.statementCount(), result.elapsedNanos());
+        if (readYourWritesTracker != null) {
+            readYourWritesTracker.recordWrite();
+        }
+        return result.updatedRows();
+    }
+
+    // 트랜잭션 없이 실행하면 routing DataSource 가 쓰기를 기록하지 않기 때문에 직접 기록
+    private int updateWithoutTransaction(TitleAndAuthorUpdate update) {
+        int updatedRows = updateDirectly(update);
+        if (readYourWritesTracker != null) {
+            readYourWritesTracker.recordWrite();
+        }
+        return updatedRows;
+    }
+
+    private int updateDirectly(TitleAndAuthorUpdate update) {
+        return scheduleRepositoryImpl.updateTitleAndAuthorIfPasswordMatches(
+                update.getId(), update.getPassword(), update.getTitle(), update.getAuthor(), update.getUpdatedAt());
+    }
+
+    private void run() {
+        List<PendingUpdate> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingUpdate first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 첫 수정이 들어온 시점부터 max-delay 동안 또는 max-batch-size 개까지 모음
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingUpdate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중, 모은 수정은 아래에서 처리하고 나머지는 stop() 에서 처리
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (Throwable e) {
+                    // flusher thread 가 죽으면 이후 호출이 모두 대기하기 때문에 이번 batch 만 실패시키고 계속 실행
+                    log.error("스케줄 수정 batch 처리 중 오류가 발생했습니다. : {}", e.getMessage(), e);
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingUpdate> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() == 1) {
+            flushOne(batch.get(0), null);
+            return;
+        }
+
+        List<TitleAndAuthorUpdate> updates = batch.stream().map(PendingUpdate::update).toList();
+        int[] updatedRows;
+        QueryStatistics statistics = QueryStatistics.start();
+        try {
+            updatedRows = transactionTemplate.execute(status -> {
+                int[] rows = scheduleRepositoryImpl.updateTitleAndAuthorIfPasswordMatches(updates);
+                scheduleCacheEvictor.evictSchedules(updates.stream().map(TitleAndAuthorUpdate::getId).toList());
+                return rows;
+            });
+        } catch (RuntimeException e) {
+            statistics.close();
+            log.warn("스케줄 수정 batch 실패, 하나씩 다시 실행합니다. : {}", e.getMessage());
+            batch.forEach(pending -> flushOne(pending, statistics));
+            return;
+        } finally {
+            statistics.close();
+        }
+
+        // commit 이 끝난 다음에 응답
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(new UpdateResult(updatedRows[i], statistics.getStatementCount(), statistics.getElapsedNanos()));
+        }
+    }
+
+    // failedBatch : 먼저 실패한 batch 의 기록 (호출마다 같이 더함)
+    private void flushOne(PendingUpdate pending, QueryStatistics failedBatch) {
+        try (QueryStatistics statistics = QueryStatistics.start()) {
+            Integer updatedRows = transactionTemplate.execute(status -> updateDirectly(pending.update()));
+            int statementCount = statistics.getStatementCount() + (failedBatch != null ? failedBatch.getStatementCount() : 0);
+            long elapsedNanos = statistics.getElapsedNanos() + (failedBatch != null ? failedBatch.getElapsedNanos() : 0);
+            pending.result().complete(new UpdateResult(updatedRows != null ? updatedRows : 0, statementCount, elapsedNanos));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingUpdate(TitleAndAuthorUpdate update, CompletableFuture<UpdateResult> result) {
+    }
+
+    private record UpdateResult(int updatedRows, int statementCount, long elapsedNanos) {
+    }
+}
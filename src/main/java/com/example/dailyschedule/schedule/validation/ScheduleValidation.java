@@ -1,28 +1,22 @@
 package com.example.dailyschedule.schedule.validation;
 
+import com.example.dailyschedule.common.memo.RequestQueryMemo;
 import com.example.dailyschedule.error.CustomException;
-import com.example.dailyschedule.member.dto.MemberDto;
-import com.example.dailyschedule.member.entity.Member;
-import com.example.dailyschedule.member.repository.MemberRepository;
-import com.example.dailyschedule.schedule.dto.ScheduleDto;
-import com.example.dailyschedule.schedule.dto.SearchDto;
-import com.example.dailyschedule.schedule.dto.UpdatedScheduleDto;
 import com.example.dailyschedule.schedule.entity.Schedule;
 import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
-import org.springframework.data.domain.Page;
 
-import java.sql.Date;
+import java.util.Collection;
 
 import static com.example.dailyschedule.error.type.ErrorCode.*;
 
 public class ScheduleValidation {
 
     private final ScheduleRepositoryImpl scheduleRepository;
-    private final MemberRepository memberRepository;
+    private final RequestQueryMemo queryMemo;
 
-    public ScheduleValidation(ScheduleRepositoryImpl scheduleRepository, MemberRepository memberRepository) {
+    public ScheduleValidation(ScheduleRepositoryImpl scheduleRepository, RequestQueryMemo queryMemo) {
         this.scheduleRepository = scheduleRepository;
-        this.memberRepository = memberRepository;
+        this.queryMemo = queryMemo;
     }
 
     // 비밀번호 검증 메서드
@@ -56,64 +50,50 @@ public class ScheduleValidation {
 
     // 존재하는 ID 검증 메서드
     public Schedule validateExistId(Long id) {
-        Schedule existingSchedule = scheduleRepository.findScheduleById(id);
+        Schedule existingSchedule = findScheduleById(id);
         if (existingSchedule == null) {
             throw new CustomException(ID_NOT_FOUND);
         }
         return existingSchedule;
     }
 
-    // updatedAt과 author를 검증하는 메서드
-    public void validateUpdateDateAndAuthor(Date updatedAt, String author, SearchDto searchDto) {
-        Page<Schedule> schedules = scheduleRepository.findSchedulesByUpdatedDateAndAuthor(updatedAt, author, searchDto);
-
+    // updatedAt과 author 조회 결과를 검증하는 메서드 (service에서 조회한 결과를 그대로 받아서 다시 조회하지 않음)
+    public void validateUpdateDateAndAuthor(Collection<Schedule> schedules) {
         if (schedules.isEmpty()) {
             throw new CustomException(NOT_FOUND);
         }
     }
 
-    // 스케줄 삭제를 위한 ID와 비밀번호 검증 메서드
-    public void deleteByScheduleById(Long id, String password, Schedule schedule) {
-        validatePassword(password, schedule);
-        validateId(id, schedule);
-    }
-
-    public Schedule validateAndPrepareUpdatedSchedule(UpdatedScheduleDto updatedScheduleDto, Schedule existingSchedule) {
-
-        if (existingSchedule == null) {
-            throw new CustomException(ID_NOT_FOUND);
+    // 비밀번호 조건부 수정/삭제 결과 검증 메서드
+    // 영향받은 row가 없을 때만 PK로 존재 여부를 확인해서 ID 없음 / 비밀번호 불일치를 구분
+    public void validateConditionalWrite(int affectedRows, Long id) {
+        if (affectedRows > 0) {
+            return;
         }
 
-        // ID와 비밀번호 유효성 검사
-        if (!existingSchedule.getPassword().equals(updatedScheduleDto.getPassword())) {
-            throw new CustomException(PASSWORD_INCORRECT);
+        if (!scheduleRepository.existsById(id)) {
+            throw new CustomException(ID_NOT_FOUND);
         }
-
-        // 새로운 Schedule 객체 생성하여 업데이트 내용 반영
-        return Schedule.builder()
-                .id(existingSchedule.getId()) // ID는 기존 값 유지
-                .title(updatedScheduleDto.getTitle()) // Title은 변경하지 않음
-                .author(updatedScheduleDto.getAuthor()) // 변경된 작성자명
-                .password(existingSchedule.getPassword()) // 비밀번호는 기존 값 유지
-                .description(existingSchedule.getDescription()) // 변경된 할일(description)
-                .createdAt(existingSchedule.getCreatedAt()) // 작성일은 기존 값 유지
-                .updatedAt(new Date(System.currentTimeMillis())) // 수정일을 현재 시점으로 설정
-                .deletedAt(existingSchedule.getDeletedAt()) // 삭제일은 기존 값 유지
-                .member(existingSchedule.getMember()) // Member는 기존 값 유지
-                .build();
+        throw new CustomException(PASSWORD_INCORRECT);
     }
 
     //회원 아이디와 스케줄 아이디 검증
-    public void validationOfFindScheduleByMemberId(ScheduleDto scheduleDto, MemberDto memberDto) {
-        Member findMember = memberRepository.findById(memberDto.getId());
-        Schedule findSchedule = scheduleRepository.findScheduleById(scheduleDto.getId());
-
-        if (findMember == null) {
+    //회원의 스케줄 조회 결과가 있으면 회원은 존재하는 것이므로 회원을 따로 조회하지 않는다.
+    //조회 결과에 scheduleId가 있으면 스케줄 조회도 생략
+    public void validationOfFindScheduleByMemberId(Long scheduleId, Collection<Schedule> memberSchedules) {
+        if (memberSchedules.isEmpty()) {
             throw new CustomException(NOT_FOUND);
         }
 
-        if (findSchedule == null) {
+        boolean fetched = memberSchedules.stream()
+                .anyMatch(schedule -> schedule.getId().equals(scheduleId));
+        if (!fetched && findScheduleById(scheduleId) == null) {
             throw new CustomException(NOT_FOUND);
         }
     }
+
+    // 같은 요청 안에서 같은 id를 여러번 조회하지 않도록 memo를 거쳐서 조회
+    private Schedule findScheduleById(Long id) {
+        return queryMemo.get("schedule:" + id, () -> scheduleRepository.findScheduleById(id));
+    }
 }
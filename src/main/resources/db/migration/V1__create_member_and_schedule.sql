@@ -0,0 +1,24 @@
+# 기존 DB에는 이미 테이블이 있기 때문에 IF NOT EXISTS 로 작성
+create table if not exists member (
+    id BIGINT not null auto_increment,
+    user_id varchar(25) not null,
+    password varchar(255) not null,
+    name varchar(25) not null,
+    email varchar(50) not null,
+    updated_at DATETIME null,
+    primary key (id)
+);
+
+create table if not exists schedule (
+    id BIGINT not null auto_increment,
+    title varchar(50) not null,
+    description TEXT,
+    created_at DATETIME not null,
+    updated_at DATETIME,
+    deleted_at DATETIME,
+    author varchar(50),
+    password varchar(25),
+    member_id BIGINT,
+    primary key (id),
+    constraint fk_member foreign key (member_id) references member (id) on delete cascade
+);
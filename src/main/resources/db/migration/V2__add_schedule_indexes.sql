@@ -0,0 +1,12 @@
+# 내림차순 조회 / cursor 조회 (ORDER BY updated_at DESC, id DESC)
+create index idx_schedule_updated_at on schedule (updated_at, id);
+
+# 작성자 + 수정 날짜 조회
+create index idx_schedule_author_updated_at on schedule (author, updated_at, id);
+
+# 회원별 스케줄 조회
+create index idx_schedule_member_updated_at on schedule (member_id, updated_at, id);
+
+# 날짜 조회 (UNION 으로 컬럼별 range scan)
+create index idx_schedule_created_at on schedule (created_at);
+create index idx_schedule_deleted_at on schedule (deleted_at);
@@ -0,0 +1,15 @@
+# 회원별 날짜별 스케줄 개수 (달력 화면용), 날짜는 created_at 기준
+create table if not exists schedule_day_count (
+    member_id BIGINT not null,
+    day DATE not null,
+    schedule_count INT not null default 0,
+    primary key (member_id, day),
+    constraint fk_day_count_member foreign key (member_id) references member (id) on delete cascade
+);
+
+# 기존 스케줄로 초기 데이터 생성
+insert into schedule_day_count (member_id, day, schedule_count)
+select member_id, DATE(created_at), COUNT(*)
+  from schedule
+ where member_id is not null
+ group by member_id, DATE(created_at);
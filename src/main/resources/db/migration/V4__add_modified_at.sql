@@ -0,0 +1,13 @@
+# 조건부 GET (ETag / Last-Modified) 용 변경 시각
+# updated_at 은 날짜 단위라서 같은 날 여러번 수정되면 구분할 수 없기 때문에 DB가 관리하는 컬럼을 따로 둔다.
+# ON UPDATE 는 실제로 값이 바뀐 경우에만 갱신된다.
+alter table schedule
+    add column modified_at DATETIME(3) not null default CURRENT_TIMESTAMP(3) on update CURRENT_TIMESTAMP(3);
+
+alter table member
+    add column modified_at DATETIME(3) not null default CURRENT_TIMESTAMP(3) on update CURRENT_TIMESTAMP(3);
+
+# 목록 validator 조회 (COUNT + MAX) 를 index 만으로 처리
+create index idx_schedule_modified_at on schedule (modified_at);
+create index idx_schedule_member_modified_at on schedule (member_id, modified_at);
+create index idx_member_modified_at on member (modified_at);
@@ -0,0 +1,26 @@
+# soft delete : 스케줄 삭제는 schedule.deleted_at, 회원 삭제는 member.deleted_at 을 설정하고
+# 실제 row 는 SchedulePurgeJob 이 작은 PK 단위로 삭제한다.
+# 기존 deleted_at 은 사용자가 입력하던 날짜였기 때문에 삭제 표시로 오해되지 않도록 비우는데,
+# 값을 버리지 않고 legacy_deleted_at 으로 옮겨서 보관한다. (애플리케이션은 읽지 않음, 확인 후 별도 migration 으로 삭제)
+alter table schedule add column legacy_deleted_at DATETIME null;
+update schedule set legacy_deleted_at = deleted_at, deleted_at = null where deleted_at is not null;
+
+alter table member add column deleted_at DATETIME null;
+
+# 조회 조건(deleted_at IS NULL)을 index 에서 처리하도록 등호 조건 뒤에 deleted_at 추가
+# (member_id FK 가 사용할 index 가 항상 남아있도록 새 index 를 먼저 만들고 기존 index 를 삭제)
+create index idx_schedule_live_updated_at on schedule (deleted_at, updated_at, id);
+create index idx_schedule_author_live_updated_at on schedule (author, deleted_at, updated_at, id);
+create index idx_schedule_member_live_updated_at on schedule (member_id, deleted_at, updated_at, id);
+create index idx_schedule_created_at_live on schedule (created_at, deleted_at);
+
+drop index idx_schedule_updated_at on schedule;
+drop index idx_schedule_author_updated_at on schedule;
+drop index idx_schedule_member_updated_at on schedule;
+drop index idx_schedule_created_at on schedule;
+
+# 목록 validator (MAX(modified_at)) 는 삭제 표시된 row 도 포함해서 조회하기 때문에 V4 의 modified_at index 는 그대로 둔다.
+# (deleted_at 이 앞에 오면 index 끝 한 건으로 MAX 를 구할 수 없음)
+
+# purge 대상 조회 (deleted_at IS NOT NULL ORDER BY deleted_at) 는 기존 idx_schedule_deleted_at 사용
+create index idx_member_deleted_at on member (deleted_at);
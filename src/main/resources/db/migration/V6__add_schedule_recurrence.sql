@@ -0,0 +1,9 @@
+# 반복 스케줄 : 규칙(RRULE)과 예외 날짜는 row 하나에 저장하고 발생일은 조회할 때 기간만큼만 계산한다.
+# recurrence_until 은 마지막 발생일 (끝이 없으면 9999-12-31), 반복이 아닌 스케줄은 null
+alter table schedule
+    add column recurrence_rule varchar(255) null,
+    add column recurrence_exdates TEXT null,
+    add column recurrence_until DATE null;
+
+# 날짜 조회시 반복 스케줄 후보 (삭제되지 않았고 마지막 발생일이 조회 날짜 이후)
+create index idx_schedule_live_recurrence_until on schedule (deleted_at, recurrence_until, created_at);
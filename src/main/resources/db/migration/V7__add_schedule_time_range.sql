@@ -0,0 +1,6 @@
+# 스케줄 시작/종료 시각 : [start_at, end_at) 구간, 시간이 없는 스케줄은 둘 다 null
+# 겹침 조회와 중복 예약 검사는 애플리케이션의 in-memory 구간 색인(ScheduleIntervalIndex)으로 처리하고,
+# DB 는 시작할 때 색인을 만들기 위해 한번 읽기만 하기 때문에 별도 index 는 두지 않는다.
+alter table schedule
+    add column start_at DATETIME(3) null,
+    add column end_at DATETIME(3) null;
@@ -0,0 +1,9 @@
+# 목록 조건부 GET 용 purge 시각 (row 한건)
+# 목록 validator 는 MAX(modified_at) 인데, 삭제 표시된 row 가 purge 되면 MAX 가 삭제 이전 값으로 돌아가서
+# 삭제 전에 받은 ETag 와 같아질 수 있다. purge 전에 이 시각을 갱신해서 ETag 가 이전 값으로 돌아가지 않게 한다.
+create table if not exists purge_watermark (
+    id TINYINT not null primary key,
+    purged_at DATETIME(3) not null
+);
+
+insert into purge_watermark (id, purged_at) values (1, CURRENT_TIMESTAMP(3));
@@ -0,0 +1,45 @@
+# 날짜 조회에서 반복 스케줄을 SQL 로 바로 고르기 위한 컬럼 (RecurrenceColumns 참고, 반복이 아니면 모두 null)
+# 기존에는 끝나지 않는 반복 스케줄을 모두 읽어서 애플리케이션에서 규칙을 계산하고, 발생하는 id 를 IN 조건으로 넘겼다.
+# recurrence_period : 시작일이 속한 주기 번호 (DAILY epoch day, WEEKLY 월요일 epoch day / 7, MONTHLY year * 12 + month - 1, YEARLY year)
+# recurrence_weekdays : 발생할 수 있는 요일 bitmask (월요일 1 ~ 일요일 64)
+alter table schedule
+    add column recurrence_frequency varchar(7) null,
+    add column recurrence_interval INT null,
+    add column recurrence_period BIGINT null,
+    add column recurrence_weekdays TINYINT null,
+    add column recurrence_month TINYINT null,
+    add column recurrence_month_day TINYINT null;
+
+# 기존 반복 스케줄 : 저장된 규칙은 RecurrenceRule.format() 으로 정규화된 형태 (FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;COUNT=10)
+update schedule
+   set recurrence_frequency = substring_index(substring_index(recurrence_rule, 'FREQ=', -1), ';', 1),
+       recurrence_interval = if(recurrence_rule like '%INTERVAL=%',
+                                cast(substring_index(substring_index(recurrence_rule, 'INTERVAL=', -1), ';', 1) as unsigned), 1)
+ where recurrence_rule is not null;
+
+update schedule
+   set recurrence_period = case recurrence_frequency
+           when 'DAILY' then datediff(created_at, '1970-01-01')
+           when 'WEEKLY' then (datediff(created_at, '1970-01-01') - weekday(created_at)) div 7
+           when 'MONTHLY' then year(created_at) * 12 + month(created_at) - 1
+           else year(created_at) end,
+       recurrence_weekdays = case
+           when recurrence_frequency = 'WEEKLY' and recurrence_rule like '%BYDAY=%' then
+               (find_in_set('MO', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 1
+             + (find_in_set('TU', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 2
+             + (find_in_set('WE', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 4
+             + (find_in_set('TH', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 8
+             + (find_in_set('FR', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 16
+             + (find_in_set('SA', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 32
+             + (find_in_set('SU', substring_index(substring_index(recurrence_rule, 'BYDAY=', -1), ';', 1)) > 0) * 64
+           when recurrence_frequency = 'WEEKLY' then 1 << weekday(created_at)
+           when recurrence_frequency = 'DAILY' and recurrence_interval % 7 = 0 then 1 << weekday(created_at)
+           else 127 end,
+       recurrence_month = if(recurrence_frequency = 'YEARLY', month(created_at), null),
+       recurrence_month_day = if(recurrence_frequency in ('MONTHLY', 'YEARLY'), dayofmonth(created_at), null)
+ where recurrence_rule is not null;
+
+# 마지막 발생일 range 뒤에 날짜 조건 컬럼을 붙여서 후보를 index 에서 거른다 (예외 날짜만 row 에서 확인)
+create index idx_schedule_live_recurrence on schedule (deleted_at, recurrence_until, created_at, recurrence_frequency,
+    recurrence_interval, recurrence_period, recurrence_weekdays, recurrence_month, recurrence_month_day);
+drop index idx_schedule_live_recurrence_until on schedule;
@@ -0,0 +1,112 @@
+package com.example.dailyschedule.service;
+
+import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
+import com.example.dailyschedule.member.converter.MemberConverter;
+import com.example.dailyschedule.schedule.converter.ScheduleConverter;
+import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.repository.ReactiveScheduleRepository;
+import com.example.dailyschedule.schedule.service.ReactiveScheduleService;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 H2(R2DBC, MySQL 모드)로 non-blocking 조회 검증
+class ReactiveScheduleServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+    private ReactiveScheduleService reactiveScheduleService;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive-" + UUID.randomUUID() + "?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+
+        databaseClient.sql("""
+                create table member (
+                    id BIGINT not null auto_increment, user_id varchar(25) not null, password varchar(255) not null,
+                    name varchar(25) not null, email varchar(50) not null, updated_at DATETIME null, deleted_at DATETIME null,
+                    primary key (id))
+                """).then().block();
+        databaseClient.sql("""
+                create table schedule (
+                    id BIGINT not null auto_increment, title varchar(50) not null, description TEXT,
+                    created_at DATETIME not null, updated_at DATETIME, deleted_at DATETIME, author varchar(50),
+                    password varchar(25), member_id BIGINT, primary key (id))
+                """).then().block();
+
+        databaseClient.sql("INSERT INTO member (user_id, password, name, email) VALUES ('user_Id', 'testPassword', 'testName', 'test@test.com')")
+                .then().block();
+        for (int i = 1; i <= 5; i++) {
+            databaseClient.sql("INSERT INTO schedule (title, description, created_at, updated_at, author, password, member_id)"
+                            + " VALUES (:title, 'description', :createdAt, :updatedAt, 'Author', 'password', 1)")
+                    .bind("title", "Title " + i)
+                    .bind("createdAt", UPDATED_AT)
+                    .bind("updatedAt", UPDATED_AT.plusMinutes(i))
+                    .then().block();
+        }
+
+        reactiveScheduleService = new ReactiveScheduleService(
+                new ReactiveScheduleRepository(databaseClient), new ScheduleConverter(new MemberConverter()));
+    }
+
+    @Test
+    void findById() {
+        StepVerifier.create(reactiveScheduleService.findById(1L))
+                .assertNext(schedule -> {
+                    assertThat(schedule.getTitle()).isEqualTo("Title 1");
+                    assertThat(schedule.getPassword()).isEqualTo("password");
+                    assertThat(schedule.getMemberDto().getUserId()).isEqualTo("user_Id");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(reactiveScheduleService.findById(100L))
+                .expectErrorMatches(e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.ID_NOT_FOUND)
+                .verify();
+    }
+
+    @Test
+    void findByUpdatedDateDesc() {
+        SearchDto searchDto = SearchDto.builder().page(1).pageSize(3).recordSize(3).build();
+
+        StepVerifier.create(reactiveScheduleService.findByUpdatedDateDesc(searchDto))
+                .assertNext(schedule -> assertThat(schedule.getTitle()).isEqualTo("Title 5"))
+                .assertNext(schedule -> assertThat(schedule.getTitle()).isEqualTo("Title 4"))
+                .assertNext(schedule -> assertThat(schedule.getTitle()).isEqualTo("Title 3"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findByUpdatedDateAndAuthor() {
+        StepVerifier.create(reactiveScheduleService.findByUpdatedDateAndAuthor(Date.valueOf(UPDATED_AT.toLocalDate()), "Author", new SearchDto()))
+                .expectNextCount(5)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveScheduleService.findByUpdatedDateAndAuthor(null, "Unknown", new SearchDto()))
+                .expectErrorMatches(e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.NOT_FOUND)
+                .verify();
+    }
+
+    @Test
+    void findSchedulesByMemberId_withBackpressure() {
+        // 구독자가 요청한 개수만큼만 전달되는지 확인
+        StepVerifier.create(reactiveScheduleService.findSchedulesByMemberId(new SearchDto(), 1L, 1L), 2)
+                .expectNextCount(2)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveScheduleService.findSchedulesByMemberId(new SearchDto(), 1L, 100L))
+                .expectErrorMatches(e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.NOT_FOUND)
+                .verify();
+    }
+}
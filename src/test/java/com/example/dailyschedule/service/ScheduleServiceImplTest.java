@@ -1,29 +1,105 @@
 package com.example.dailyschedule.service;
 
+import com.example.dailyschedule.common.cache.ScheduleCacheEvictor;
+import com.example.dailyschedule.common.cache.SingleFlight;
+import com.example.dailyschedule.common.datasource.DataSourceType;
+import com.example.dailyschedule.common.datasource.ReadWriteRoutingDataSource;
+import com.example.dailyschedule.common.datasource.QueryStatistics;
+import com.example.dailyschedule.common.datasource.ReadYourWritesTracker;
+import com.example.dailyschedule.common.metrics.OperationMetrics;
 import com.example.dailyschedule.error.CustomException;
+import com.example.dailyschedule.error.type.ErrorCode;
 import com.example.dailyschedule.member.converter.MemberConverter;
 import com.example.dailyschedule.member.dto.MemberDto;
 import com.example.dailyschedule.member.entity.Member;
 import com.example.dailyschedule.member.repository.MemberRepository;
 import com.example.dailyschedule.member.service.MemberService;
+import com.example.dailyschedule.schedule.dto.BatchCreateResultDto;
+import com.example.dailyschedule.schedule.dto.BatchItemResultDto;
+import com.example.dailyschedule.schedule.dto.CountMode;
+import com.example.dailyschedule.schedule.dto.CursorPageDto;
+import com.example.dailyschedule.schedule.dto.ExportFormat;
+import com.example.dailyschedule.schedule.dto.ImportResultDto;
+import com.example.dailyschedule.schedule.dto.ListResponseDto;
+import com.example.dailyschedule.schedule.dto.MonthSummaryDto;
 import com.example.dailyschedule.schedule.dto.ScheduleDto;
+import com.example.dailyschedule.schedule.dto.ScheduleListVersion;
 import com.example.dailyschedule.schedule.dto.SearchDto;
+import com.example.dailyschedule.schedule.dto.TitleAndAuthorUpdate;
 import com.example.dailyschedule.schedule.dto.UpdatedScheduleDto;
+import com.example.dailyschedule.schedule.interval.ScheduleIntervalIndex;
+import com.example.dailyschedule.schedule.recurrence.RecurrenceRule;
+import com.example.dailyschedule.schedule.repository.ScheduleRepositoryImpl;
+import com.example.dailyschedule.schedule.service.ScheduleExportService;
+import com.example.dailyschedule.schedule.service.ScheduleImportService;
+import com.example.dailyschedule.schedule.service.SchedulePurgeJob;
 import com.example.dailyschedule.schedule.service.ScheduleServiceImpl;
+import com.example.dailyschedule.schedule.service.ScheduleUpdateBatcher;
+import com.example.dailyschedule.support.QueryBudgetExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 class ScheduleServiceImplTest {
 
+    @RegisterExtension
+    QueryBudgetExtension queryBudget = new QueryBudgetExtension();
+
     @Autowired
     private ScheduleServiceImpl scheduleService;
 
@@ -37,6 +113,30 @@ class ScheduleServiceImplTest {
     private MemberDto memberDto;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private ScheduleExportService scheduleExportService;
+    @Autowired
+    private ScheduleImportService scheduleImportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private SchedulePurgeJob schedulePurgeJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SingleFlight singleFlight;
+    @Autowired
+    private ScheduleRepositoryImpl scheduleRepositoryImpl;
+    @Autowired
+    private ScheduleCacheEvictor scheduleCacheEvictor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private ScheduleIntervalIndex scheduleIntervalIndex;
 
     @Test
     void create() {
@@ -285,8 +385,13 @@ class ScheduleServiceImplTest {
         assertThat(updatedSchedule.getTitle()).isEqualTo("Updated Test Description");
         assertThat(updatedSchedule.getAuthor()).isEqualTo("Updated Author");
 
-        // 수정일이 업데이트된 시점으로 변경되었는지 검증
-        assertThat(updatedSchedule.getUpdatedAt()).isAfter(createdSchedule.getUpdatedAt());
+        // 수정하지 않은 항목도 다시 읽은 row 로 채워져 있어야 함
+        assertThat(updatedSchedule.getId()).isEqualTo(createdSchedule.getId());
+        assertThat(updatedSchedule.getDescription()).isEqualTo("Original Test Description");
+        assertThat(updatedSchedule.getMemberDto().getId()).isEqualTo(createdMember.getId());
+
+        // 수정일이 오늘 날짜로 변경되었는지 검증 (updated_at 은 날짜 단위로 조회됨)
+        assertThat(updatedSchedule.getUpdatedAt().toString()).isEqualTo(new Date(System.currentTimeMillis()).toString());
     }
 
 
@@ -469,4 +574,1048 @@ class ScheduleServiceImplTest {
         assertThat(schedule.getUpdatedAt()).isEqualTo(new Date(2024, 7, 10));
     }
 
-}
\ No newline at end of file
+    @Test
+    @Transactional
+    void findByUpdatedDateDescWithCursor() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        for (long i = 1; i <= 3; i++) {
+            ScheduleDto scheduleDto = ScheduleDto.builder()
+                    .id(i)
+                    .title("Cursor Test Title " + i)
+                    .description("Cursor Test Description")
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .updatedAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build();
+            scheduleService.create(createdMember, scheduleDto);
+        }
+
+        // 첫 페이지 (cursor 없음)
+        SearchDto firstSearch = SearchDto.builder()
+                .recordSize(2)
+                .build();
+        CursorPageDto<ScheduleDto> firstPage = scheduleService.findByUpdatedDateDescWithCursor(firstSearch);
+
+        assertThat(firstPage.getContent().size()).isEqualTo(2);
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+
+        // 다음 페이지 (nextCursor 사용)
+        SearchDto nextSearch = SearchDto.builder()
+                .recordSize(2)
+                .cursor(firstPage.getNextCursor())
+                .build();
+        CursorPageDto<ScheduleDto> nextPage = scheduleService.findByUpdatedDateDescWithCursor(nextSearch);
+
+        assertThat(nextPage.getContent().size()).isEqualTo(1);
+        assertFalse(nextPage.isHasNext());
+        assertNull(nextPage.getNextCursor());
+        assertThat(nextPage.getContent()).extracting("id")
+                .doesNotContainAnyElementsOf(firstPage.getContent().stream().map(ScheduleDto::getId).toList());
+    }
+
+    @Test
+    @Transactional
+    void findByUpdatedDateDescSlice() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        for (long i = 1; i <= 2; i++) {
+            ScheduleDto scheduleDto = ScheduleDto.builder()
+                    .id(i)
+                    .title("Slice Test Title " + i)
+                    .description("Slice Test Description")
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .updatedAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build();
+            scheduleService.create(createdMember, scheduleDto);
+        }
+
+        SearchDto searchDto = SearchDto.builder()
+                .recordSize(1)
+                .countMode(CountMode.NONE)
+                .build();
+
+        Slice<ScheduleDto> slice = scheduleService.findByUpdatedDateDescSlice(searchDto);
+
+        assertThat(slice.getContent().size()).isEqualTo(1);
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void createBatch() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        MemberDto unknownMember = MemberDto.builder().id(createdMember.getId() + 1000).build();
+
+        List<ScheduleDto> scheduleDtos = List.of(
+                ScheduleDto.builder().title("Batch Title 1").author("Author").password("password")
+                        .createdAt(new Date(System.currentTimeMillis())).memberDto(createdMember).build(),
+                ScheduleDto.builder().title("Batch Title 2").author("Author").password("password")
+                        .createdAt(new Date(System.currentTimeMillis())).memberDto(unknownMember).build(),
+                ScheduleDto.builder().title("Batch Title 3").author("Author").password("password")
+                        .createdAt(new Date(System.currentTimeMillis())).memberDto(createdMember).build()
+        );
+
+        BatchCreateResultDto result = scheduleService.createBatch(scheduleDtos);
+
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertNotNull(result.getResults().get(0).getId());
+        assertThat(scheduleService.findById(result.getResults().get(2).getId()).getTitle()).isEqualTo("Batch Title 3");
+    }
+
+    @Test
+    void findByIdAfterUpdateTitleAndAuthor() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        ScheduleDto scheduleDto = ScheduleDto.builder()
+                .id(1L)
+                .title("Cached Title")
+                .description("Cached Description")
+                .author("Cached Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .updatedAt(new Date(System.currentTimeMillis()))
+                .password("password1")
+                .memberDto(createdMember)
+                .build();
+        ScheduleDto createdSchedule = scheduleService.create(createdMember, scheduleDto);
+
+        // 캐시에 올라간 상태에서 수정
+        assertThat(scheduleService.findById(createdSchedule.getId()).getTitle()).isEqualTo("Cached Title");
+        scheduleService.updateTitleAndAuthor(createdSchedule.getId(), UpdatedScheduleDto.builder()
+                .title("Updated Title")
+                .author("Updated Author")
+                .password("password1")
+                .build());
+
+        // 수정 후에는 캐시가 제거되어 변경된 값이 조회되어야 함
+        ScheduleDto findSchedule = scheduleService.findById(createdSchedule.getId());
+        assertThat(findSchedule.getTitle()).isEqualTo("Updated Title");
+        assertThat(findSchedule.getAuthor()).isEqualTo("Updated Author");
+    }
+
+    @Test
+    void findByUpdatedDateDesc_onVirtualThreads() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        for (int i = 1; i <= 20; i++) {
+            scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Title " + i)
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .updatedAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build());
+        }
+
+        // virtual thread 에서 동시에 조회해도 모두 정상 응답 (처리량 비교는 VirtualThreadBenchmark)
+        int requests = 200;
+        List<Future<Page<ScheduleDto>>> futures = new ArrayList<>(requests);
+        try (ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                futures.add(virtualExecutor.submit(() -> {
+                    assertTrue(Thread.currentThread().isVirtual());
+                    return scheduleService.findByUpdatedDateDesc(new SearchDto());
+                }));
+            }
+            for (Future<Page<ScheduleDto>> future : futures) {
+                Page<ScheduleDto> page = future.get(30, TimeUnit.SECONDS);
+                assertThat(page.getContent()).hasSize(10);
+                assertThat(page.getTotalElements()).isEqualTo(20);
+            }
+        }
+
+        memberRepository.deleteMemberAndSchedule();
+    }
+
+    @Test
+    void exportSchedules() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("Export, \"Title\"")
+                .author("Export Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .updatedAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        scheduleExportService.export(ExportFormat.CSV, null, "Export Author", createdMember.getId(), csv);
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(csvLines).hasSize(2);
+        assertThat(csvLines[1]).contains("\"Export, \"\"Title\"\"\"");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        scheduleExportService.export(ExportFormat.NDJSON, null, null, createdMember.getId(), ndjson);
+        String[] jsonLines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(jsonLines).hasSize(1);
+        assertThat(jsonLines[0]).contains("\"memberId\":" + createdMember.getId());
+        assertThat(jsonLines[0]).doesNotContain("password");
+    }
+
+    @Test
+    void importSchedules() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        long memberId = createdMember.getId();
+
+        String csv = "title,author,description,password,created_at,updated_at,member_id\n"
+                + "Import 1,Author,\"multi\nline\",password,2024-10-01,2024-10-02," + memberId + "\n"
+                + "Import 2,Author,,password,not-a-date,," + memberId + "\n"
+                + "Import 3,Author,,password,2024-10-01,," + (memberId + 1000) + "\n"
+                + "Import 4,Author,,password,2024-10-01,," + memberId + "\n";
+
+        ImportResultDto result = scheduleImportService.importSchedules(ExportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        // 따옴표 안의 줄바꿈 때문에 두번째 record는 4번째 줄
+        assertThat(result.getErrors()).extracting("line").containsExactly(4L, 5L);
+    }
+
+    @Test
+    void searchByKeyword() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        ScheduleDto inTitle = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("주간 회의록 정리")
+                .description("팀 공유")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+        ScheduleDto inDescription = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("점심 약속")
+                .description("약속 후에 회의록을 작성")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+
+        // title에 있는 스케줄이 먼저 조회되어야 함
+        Page<ScheduleDto> result = scheduleService.searchByKeyword("회의록", new SearchDto());
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(ScheduleDto::getId).containsExactly(inTitle.getId(), inDescription.getId());
+
+        // 수정, 삭제가 색인에 반영되어야 함
+        scheduleService.updateTitleAndAuthor(inTitle.getId(), UpdatedScheduleDto.builder()
+                .title("주간 보고")
+                .author("Author")
+                .password("password")
+                .build());
+        scheduleService.deleteById(inDescription.getId(), "password");
+        assertThrows(CustomException.class, () -> scheduleService.searchByKeyword("회의록", new SearchDto()));
+        assertThat(scheduleService.searchByKeyword("보고", new SearchDto()).getContent()).hasSize(1);
+    }
+
+    @Test
+    void findMonthSummary() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        List<ScheduleDto> created = new ArrayList<>();
+        for (String day : List.of("2024-10-05", "2024-10-05", "2024-10-20", "2024-11-01")) {
+            created.add(scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Calendar " + day)
+                    .author("Author")
+                    .createdAt(Date.valueOf(day))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build()));
+        }
+        scheduleService.deleteById(created.get(2).getId(), "password");
+
+        MonthSummaryDto summary = scheduleService.findMonthSummary(createdMember.getId(), "2024-10");
+        assertThat(summary.getTotalCount()).isEqualTo(2);
+        assertThat(summary.getDays()).hasSize(1);
+        assertThat(summary.getDays().get(0).getDay().toString()).isEqualTo("2024-10-05");
+        assertThat(summary.getDays().get(0).getCount()).isEqualTo(2);
+
+        assertThrows(CustomException.class, () -> scheduleService.findMonthSummary(createdMember.getId(), "2024/10"));
+    }
+
+    @Test
+    void findModifiedAtAndListVersion() throws InterruptedException {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        ScheduleDto created = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("Validator")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+
+        // 단건 validator : 캐시되는 단건 조회 결과에 modified_at 이 같이 들어있음
+        assertNotNull(scheduleService.findById(created.getId()).getModifiedAt());
+        assertNotNull(memberService.findById(createdMember.getId()).getModifiedAt());
+
+        // 목록 validator : 삭제 표시와 purge 모두 이전 값과 달라야 함
+        ScheduleListVersion before = scheduleService.findListVersion(createdMember.getId());
+        assertNotNull(before.getScheduleModifiedAt());
+        assertNotNull(before.getMemberModifiedAt());
+        assertNotNull(before.getPurgedAt());
+
+        Thread.sleep(5);
+        scheduleService.deleteById(created.getId(), "password");
+        ScheduleListVersion deleted = scheduleService.findListVersion(createdMember.getId());
+        assertThat(deleted.getScheduleModifiedAt()).isAfter(before.getScheduleModifiedAt());
+
+        Thread.sleep(5);
+        schedulePurgeJob.purgeOnce(0);
+        ScheduleListVersion purged = scheduleService.findListVersion(createdMember.getId());
+        assertNull(purged.getScheduleModifiedAt());
+        assertThat(purged.getPurgedAt()).isAfter(before.getPurgedAt());
+    }
+
+    @Test
+    void listETagRoundTrip() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("ETag")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) applicationContext).build();
+
+        // 200 응답에 ETag 가 있고, 그대로 보내면 304
+        String etag = mockMvc.perform(get("/schedules/dateDesc"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/schedules/dateDesc").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 목록이 바뀌면 이전 ETag 로는 다시 200
+        Thread.sleep(5);
+        scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("ETag 2")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+        mockMvc.perform(get("/schedules/dateDesc").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void listResponseSerialization() throws Exception {
+        MemberDto member = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("memberPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        ScheduleDto dto = ScheduleDto.builder()
+                .id(1L)
+                .title("title")
+                .author("Author")
+                .password("schedulePassword")
+                .createdAt(Date.valueOf("2024-10-05"))
+                .memberDto(member)
+                .build();
+
+        SearchDto searchDto = new SearchDto();
+        Page<ScheduleDto> page = new PageImpl<>(List.of(dto), PageRequest.of(0, 1), 3);
+        String json = objectMapper.writeValueAsString(ListResponseDto.of(page, searchDto));
+
+        // pageable, sort, password 는 응답에 없어야 함
+        assertThat(json).doesNotContain("pageable", "sort", "password", "Password", "nextCursor", "deletedAt");
+        assertThat(json).contains("\"hasNext\":true", "\"nextPage\":2", "\"totalCount\":3", "\"createdAt\":\"2024-10-05\"");
+    }
+
+    @Test
+    void operationMetrics() {
+        scheduleService.findByUpdatedDateDesc(new SearchDto());
+
+        // service, repository 실행 시간과 COUNT 쿼리 시간이 따로 기록되어야 함
+        Timer serviceTimer = meterRegistry.find(OperationMetrics.OPERATION_TIMER)
+                .tags("layer", "service", "operation", "ScheduleServiceImpl.findByUpdatedDateDesc", "shape", "offset_exact")
+                .timer();
+        Timer repositoryTimer = meterRegistry.find(OperationMetrics.OPERATION_TIMER)
+                .tags("layer", "repository", "operation", "ScheduleRepositoryImpl.findAllOrderByUpdatedDateDesc")
+                .timer();
+        assertNotNull(serviceTimer);
+        assertNotNull(repositoryTimer);
+        assertThat(serviceTimer.count()).isPositive();
+        assertNotNull(meterRegistry.find(OperationMetrics.OPERATION_ROWS)
+                .tag("operation", "ScheduleServiceImpl.findByUpdatedDateDesc")
+                .summary());
+        assertNotNull(meterRegistry.find(OperationMetrics.COUNT_TIMER).tag("count_mode", "exact").timer());
+    }
+
+    @Test
+    void queryBudget() throws Throwable {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        ScheduleDto created = null;
+        for (int i = 0; i < 3; i++) {
+            created = scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Budget " + i)
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build());
+        }
+        Long scheduleId = created.getId();
+
+        // COUNT + 페이지 조회, 검증은 조회 결과로 처리하기 때문에 추가 조회 없음
+        Page<ScheduleDto> page = queryBudget.assertMaxQueries(2,
+                () -> scheduleService.findSchedulesByMemberId(new SearchDto(), createdMember.getId(), scheduleId));
+        assertThat(page.getContent()).hasSize(3);
+
+        // 단건 조회는 캐시를 포함해서 최대 1번
+        queryBudget.assertMaxQueries(1, () -> scheduleService.findById(scheduleId));
+        queryBudget.assertMaxQueries(0, () -> scheduleService.findById(scheduleId));
+    }
+
+    @Test
+    void softDeleteAndPurge() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        List<ScheduleDto> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Soft " + i)
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build()));
+        }
+
+        // 스케줄 삭제 : row 는 남아있지만 조회에서 제외
+        Long deletedId = created.get(0).getId();
+        scheduleService.deleteById(deletedId, "password");
+        assertThrows(CustomException.class, () -> scheduleService.findById(deletedId));
+        assertThat(scheduleService.findSchedulesByMemberId(new SearchDto(), createdMember.getId(), created.get(1).getId())
+                .getTotalElements()).isEqualTo(2);
+        assertThat(countRows("schedule")).isEqualTo(3);
+
+        // 회원 삭제 : 회원과 회원의 스케줄 모두 조회에서 제외
+        memberService.deleteMember(createdMember.getId(), "testPassword");
+        assertNull(memberRepository.findById(createdMember.getId()));
+        assertThrows(CustomException.class, () -> scheduleService.findById(created.get(1).getId()));
+        assertNotNull(scheduleService.findListVersion(createdMember.getId()).getMemberModifiedAt());
+
+        // purge 이후 실제 row 삭제
+        schedulePurgeJob.purgeOnce(0);
+        assertThat(countRows("schedule")).isZero();
+        assertThat(countRows("member")).isZero();
+    }
+
+    private long countRows(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Test
+    void singleFlightCoalescesConcurrentLookups() throws Exception {
+        int followers = 20;
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Counter coalesced = meterRegistry.counter(SingleFlight.CALLS, "name", "test", "result", "coalesced");
+        double coalescedBefore = coalesced.count();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // leader 는 release 전까지 조회를 끝내지 않음
+            Future<String> leader = executor.submit(() -> singleFlight.execute("test", 1L, () -> {
+                queries.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < followers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("test", 1L, () -> {
+                    queries.incrementAndGet();
+                    return "other";
+                })));
+            }
+
+            // 모든 follower 가 leader 의 조회에 합쳐질 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced.count() - coalescedBefore < followers && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertEquals("result", leader.get());
+            for (Future<String> result : results) {
+                assertEquals("result", result.get());
+            }
+        }
+
+        assertEquals(1, queries.get());
+        assertEquals(followers, coalesced.count() - coalescedBefore);
+
+        // 조회가 끝나면 in-flight 에서 제거되기 때문에 다음 호출은 새로 조회
+        assertEquals("next", singleFlight.execute("test", 1L, () -> "next"));
+
+        // leader 의 예외도 같이 받음
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("test", 2L, () -> {
+            throw new IllegalStateException("fail");
+        }));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void updateBatcherGroupsConcurrentUpdates() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        int updates = 10;
+        List<ScheduleDto> created = new ArrayList<>();
+        for (int i = 0; i < updates; i++) {
+            created.add(scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Batch " + i)
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build()));
+        }
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ScheduleUpdateBatcher batcher = new ScheduleUpdateBatcher(scheduleRepositoryImpl, scheduleCacheEvictor, transactionManager,
+                applicationContext.getBeanProvider(ReadYourWritesTracker.class), registry, true, 50, 50, 100, 5000);
+        batcher.start();
+
+        List<Integer> updatedRows = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < updates; i++) {
+                Long id = created.get(i).getId();
+                // 마지막 수정만 비밀번호가 틀림
+                String password = i == updates - 1 ? "wrong" : "password";
+                results.add(executor.submit(() -> {
+                    // flusher thread 에서 실행한 statement 가 호출한 쪽에 기록되어야 함
+                    try (QueryStatistics statistics = QueryStatistics.start()) {
+                        int rows = batcher.update(new TitleAndAuthorUpdate(
+                                id, password, "Updated", "Editor", new Date(System.currentTimeMillis())));
+                        assertThat(statistics.getStatementCount()).isPositive();
+                        return rows;
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                updatedRows.add(result.get());
+            }
+        } finally {
+            batcher.stop();
+        }
+
+        // 호출마다 자기 수정 결과를 받아야 함
+        assertThat(updatedRows.subList(0, updates - 1)).containsOnly(1);
+        assertThat(updatedRows.get(updates - 1)).isZero();
+        assertEquals("Updated", scheduleService.findById(created.get(0).getId()).getTitle());
+        assertEquals("Batch " + (updates - 1), scheduleService.findById(created.get(updates - 1).getId()).getTitle());
+
+        // commit 횟수가 수정 횟수보다 적어야 함
+        DistributionSummary batchSizes = registry.get(ScheduleUpdateBatcher.BATCH_SIZE).summary();
+        assertEquals(updates, (long) batchSizes.totalAmount());
+        assertThat(batchSizes.count()).isLessThan(updates);
+    }
+
+    @Test
+    void updateBatcherSurvivesErrorInFlush() throws Exception {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        List<ScheduleDto> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Batch " + i)
+                    .author("Author")
+                    .createdAt(new Date(System.currentTimeMillis()))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build()));
+        }
+
+        // 여러 건을 묶은 batch 의 캐시 evict 에서 Error 발생
+        ScheduleCacheEvictor failingEvictor = new ScheduleCacheEvictor(applicationContext.getBean(CacheManager.class)) {
+            @Override
+            public void evictSchedules(Collection<Long> scheduleIds) {
+                throw new AssertionError("evict failed");
+            }
+        };
+        ScheduleUpdateBatcher batcher = new ScheduleUpdateBatcher(scheduleRepositoryImpl, failingEvictor, transactionManager,
+                applicationContext.getBeanProvider(ReadYourWritesTracker.class), new SimpleMeterRegistry(), true, 50, 200, 100, 5000);
+        batcher.start();
+
+        try {
+            // 같은 batch 로 묶인 호출은 대기하지 않고 실패
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    Long id = created.get(i).getId();
+                    results.add(executor.submit(() -> batcher.update(new TitleAndAuthorUpdate(
+                            id, "password", "Updated", "Editor", new Date(System.currentTimeMillis())))));
+                }
+                for (Future<Integer> result : results) {
+                    ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+                    assertEquals(ErrorCode.UPDATE_FAILED, ((CustomException) failure.getCause()).getErrorCode());
+                }
+            }
+
+            // flusher thread 는 계속 실행되어 다음 수정을 처리
+            assertEquals(1, batcher.update(new TitleAndAuthorUpdate(
+                    created.get(2).getId(), "password", "Updated", "Editor", new Date(System.currentTimeMillis()))));
+        } finally {
+            batcher.stop();
+        }
+        assertEquals("Batch 0", scheduleService.findById(created.get(0).getId()).getTitle());
+    }
+
+    @Test
+    void recurringScheduleOccurrences() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        // 2024-01-01(월) 부터 월, 수 6번 (1/10 은 제외) -> 1/1, 1/3, 1/8, 1/15, 1/17
+        ScheduleDto standup = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("Standup")
+                .author("Author")
+                .createdAt(Date.valueOf("2024-01-01"))
+                .password("password")
+                .recurrenceRule("rrule:freq=weekly;byday=we,mo;count=6")
+                .recurrenceExceptions(List.of(Date.valueOf("2024-01-10")))
+                .memberDto(createdMember)
+                .build());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=6", standup.getRecurrenceRule());
+        ScheduleDto single = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("Review")
+                .author("Author")
+                .createdAt(Date.valueOf("2024-01-09"))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+
+        // 날짜 조회 : 발생일에만 포함되고 발생일이 표시됨
+        Page<ScheduleDto> onDate = scheduleService.findByDate(Date.valueOf("2024-01-08"), new SearchDto());
+        assertThat(onDate.getContent()).extracting(ScheduleDto::getId).containsExactly(standup.getId());
+        assertEquals(Date.valueOf("2024-01-08"), onDate.getContent().get(0).getOccurrenceDate());
+        assertThrows(CustomException.class, () -> scheduleService.findByDate(Date.valueOf("2024-01-10"), new SearchDto()));
+        assertThrows(CustomException.class, () -> scheduleService.findByDate(Date.valueOf("2024-01-22"), new SearchDto()));
+
+        // 회원의 기간 조회 : 반복 발생일과 일반 스케줄이 날짜 순으로 합쳐짐
+        Slice<ScheduleDto> occurrences = scheduleService.findOccurrences(createdMember.getId(),
+                Date.valueOf("2024-01-02"), Date.valueOf("2024-01-31"), 100);
+        assertThat(occurrences.getContent()).extracting(ScheduleDto::getId)
+                .containsExactly(standup.getId(), standup.getId(), single.getId(), standup.getId(), standup.getId());
+        assertThat(occurrences.getContent()).extracting(ScheduleDto::getOccurrenceDate).containsExactly(
+                Date.valueOf("2024-01-03"), Date.valueOf("2024-01-08"), null, Date.valueOf("2024-01-15"), Date.valueOf("2024-01-17"));
+        assertFalse(occurrences.hasNext());
+        assertTrue(scheduleService.findOccurrences(createdMember.getId(),
+                Date.valueOf("2024-01-01"), Date.valueOf("2024-01-31"), 2).hasNext());
+
+        // 없는 날짜(31일)는 건너뛰고, 잘못된 규칙은 저장하지 않음
+        Iterator<LocalDate> monthly = RecurrenceRule.parse("FREQ=MONTHLY")
+                .occurrences(LocalDate.of(2024, 1, 31), Set.of(), LocalDate.of(2024, 2, 1));
+        assertEquals(LocalDate.of(2024, 3, 31), monthly.next());
+        assertEquals(LocalDate.of(2024, 5, 31), monthly.next());
+        assertThrows(CustomException.class, () -> scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("Invalid")
+                .createdAt(Date.valueOf("2024-01-01"))
+                .password("password")
+                .recurrenceRule("FREQ=HOURLY")
+                .memberDto(createdMember)
+                .build()));
+    }
+
+    @Test
+    void overlappingSchedulesAndConflicts() {
+        memberRepository.deleteMemberAndSchedule();
+        scheduleIntervalIndex.rebuild();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        ScheduleDto morning = scheduleService.create(createdMember, timedSchedule(createdMember, "Morning",
+                "2024-01-01 09:00:00", "2024-01-01 10:00:00"));
+        ScheduleDto lunch = scheduleService.create(createdMember, timedSchedule(createdMember, "Lunch",
+                "2024-01-01 12:00:00", "2024-01-01 13:00:00"));
+        // 끝나는 시각에 시작하는 스케줄은 겹치지 않음
+        ScheduleDto afterMorning = scheduleService.create(createdMember, timedSchedule(createdMember, "After morning",
+                "2024-01-01 10:00:00", "2024-01-01 11:00:00"));
+
+        // 시작 시각 순으로 [from, to) 와 겹치는 스케줄만 조회
+        Slice<ScheduleDto> overlaps = scheduleService.findOverlapping(createdMember.getId(),
+                Timestamp.valueOf("2024-01-01 09:30:00"), Timestamp.valueOf("2024-01-01 12:00:00"), 100);
+        assertThat(overlaps.getContent()).extracting(ScheduleDto::getId).containsExactly(morning.getId(), afterMorning.getId());
+        assertTrue(scheduleService.findOverlapping(createdMember.getId(),
+                Timestamp.valueOf("2024-01-01 00:00:00"), Timestamp.valueOf("2024-01-02 00:00:00"), 2).hasNext());
+
+        // 겹치는 생성은 실패하고 저장되지 않음
+        CustomException conflict = assertThrows(CustomException.class, () -> scheduleService.create(createdMember,
+                timedSchedule(createdMember, "Conflict", "2024-01-01 12:30:00", "2024-01-01 14:00:00")));
+        assertEquals(ErrorCode.SCHEDULE_CONFLICT, conflict.getErrorCode());
+        assertEquals(3, scheduleService.findOverlapping(createdMember.getId(),
+                Timestamp.valueOf("2024-01-01 00:00:00"), Timestamp.valueOf("2024-01-02 00:00:00"), 100).getContent().size());
+
+        // 자기 자신과는 충돌하지 않고, 옮긴 시간이 색인에 반영됨
+        ScheduleDto movedLunch = timedSchedule(createdMember, "Lunch", "2024-01-01 12:30:00", "2024-01-01 13:30:00");
+        scheduleService.update(createdMember, ScheduleDto.builder()
+                .id(lunch.getId())
+                .title(movedLunch.getTitle())
+                .author(movedLunch.getAuthor())
+                .createdAt(movedLunch.getCreatedAt())
+                .password(movedLunch.getPassword())
+                .startAt(movedLunch.getStartAt())
+                .endAt(movedLunch.getEndAt())
+                .memberDto(createdMember)
+                .build());
+        assertThat(scheduleService.findOverlapping(createdMember.getId(),
+                Timestamp.valueOf("2024-01-01 13:15:00"), Timestamp.valueOf("2024-01-01 14:00:00"), 100).getContent())
+                .extracting(ScheduleDto::getId).containsExactly(lunch.getId());
+
+        // 삭제하면 같은 시간에 다시 생성 가능
+        scheduleService.deleteById(morning.getId(), "password");
+        scheduleService.create(createdMember, timedSchedule(createdMember, "Morning again",
+                "2024-01-01 09:00:00", "2024-01-01 10:00:00"));
+
+        // 일괄 생성도 저장된 스케줄, 같은 chunk 의 앞 항목과 겹치면 실패하고 나머지는 저장 후 색인에 반영됨
+        BatchCreateResultDto batch = scheduleService.createBatch(List.of(
+                timedSchedule(createdMember, "Batch conflict", "2024-01-01 10:30:00", "2024-01-01 11:30:00"),
+                timedSchedule(createdMember, "Batch", "2024-01-01 15:00:00", "2024-01-01 16:00:00"),
+                timedSchedule(createdMember, "Batch chunk conflict", "2024-01-01 15:30:00", "2024-01-01 16:30:00")));
+        assertThat(batch.getResults()).extracting(BatchItemResultDto::isSuccess).containsExactly(false, true, false);
+        assertEquals(ErrorCode.SCHEDULE_CONFLICT.getMessage(), batch.getResults().get(0).getMessage());
+        assertEquals(ErrorCode.SCHEDULE_CONFLICT.getMessage(), batch.getResults().get(2).getMessage());
+        assertThat(scheduleService.findOverlapping(createdMember.getId(),
+                Timestamp.valueOf("2024-01-01 15:00:00"), Timestamp.valueOf("2024-01-01 17:00:00"), 100).getContent())
+                .extracting(ScheduleDto::getId).containsExactly(batch.getResults().get(1).getId());
+
+        // 종료가 시작보다 빠르면 실패
+        CustomException invalid = assertThrows(CustomException.class, () -> scheduleService.create(createdMember,
+                timedSchedule(createdMember, "Invalid", "2024-01-02 10:00:00", "2024-01-02 09:00:00")));
+        assertEquals(ErrorCode.INVALID_TIME_RANGE, invalid.getErrorCode());
+    }
+
+    private static ScheduleDto timedSchedule(MemberDto member, String title, String startAt, String endAt) {
+        return ScheduleDto.builder()
+                .title(title)
+                .author("Author")
+                .createdAt(Date.valueOf("2024-01-01"))
+                .password("password")
+                .startAt(Timestamp.valueOf(startAt))
+                .endAt(Timestamp.valueOf(endAt))
+                .memberDto(member)
+                .build();
+    }
+
+    @Test
+    void findSchedulesByMemberIdSlice_stableOrder() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        // updated_at 이 모두 같으면 id 내림차순
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title("Same day " + i)
+                    .author("Author")
+                    .createdAt(Date.valueOf("2024-01-01"))
+                    .updatedAt(Date.valueOf("2024-01-01"))
+                    .password("password")
+                    .memberDto(createdMember)
+                    .build()).getId());
+        }
+
+        // 한 건씩 넘겨도 겹치거나 빠지는 항목이 없어야 함
+        List<Long> paged = new ArrayList<>();
+        for (int page = 1; page <= 3; page++) {
+            Slice<ScheduleDto> slice = scheduleService.findSchedulesByMemberIdSlice(
+                    SearchDto.builder().page(page).pageSize(1).recordSize(1).countMode(CountMode.NONE).build(),
+                    createdMember.getId(), ids.get(0));
+            paged.addAll(slice.getContent().stream().map(ScheduleDto::getId).toList());
+            assertEquals(page < 3, slice.hasNext());
+        }
+        assertThat(paged).containsExactly(ids.get(2), ids.get(1), ids.get(0));
+    }
+
+    @Test
+    void routingDataSource_doesNotRecordReadsWithoutTransaction() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100);
+        var router = new ReadWriteRoutingDataSource(tracker) {
+            Object lookupKey() {
+                return determineCurrentLookupKey();
+            }
+        };
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesTracker.MEMBER_HEADER, "1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            // 트랜잭션 없는 connection(export streaming 등)은 primary 로 가지만 쓰기로 기록하지 않음
+            assertEquals(DataSourceType.PRIMARY, router.lookupKey());
+            assertFalse(tracker.mustReadFromPrimary());
+
+            tracker.recordWrite();
+            assertTrue(tracker.mustReadFromPrimary());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void searchIndex_reindexesUpdatesAndMemberDeletion() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+        ScheduleDto created = scheduleService.create(createdMember, ScheduleDto.builder()
+                .title("정리")
+                .description("분기 보고서")
+                .author("Author")
+                .createdAt(new Date(System.currentTimeMillis()))
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+
+        // description 만 바뀌어도 이전 term 으로는 검색되지 않아야 함
+        scheduleService.update(createdMember, ScheduleDto.builder()
+                .id(created.getId())
+                .title("정리")
+                .description("주간 회의")
+                .author("Author")
+                .createdAt(created.getCreatedAt())
+                .password("password")
+                .memberDto(createdMember)
+                .build());
+        assertThrows(CustomException.class, () -> scheduleService.searchByKeyword("보고서", new SearchDto()));
+        assertThat(scheduleService.searchByKeyword("회의", new SearchDto()).getContent())
+                .extracting(ScheduleDto::getId).containsExactly(created.getId());
+
+        // 회원 삭제 이벤트로 회원의 스케줄이 색인에서 제외됨
+        memberService.deleteMember(createdMember.getId(), "testPassword");
+        assertThrows(CustomException.class, () -> scheduleService.searchByKeyword("회의", new SearchDto()));
+    }
+
+    @Test
+    void recurringSchedulesOnDateMatchRecurrenceRule() {
+        memberRepository.deleteMemberAndSchedule();
+        memberDto = MemberDto.builder()
+                .id(1L)
+                .userId("user_Id")
+                .password("testPassword")
+                .name("testName")
+                .email("test@test.com")
+                .build();
+        MemberDto createdMember = memberService.createMember(memberDto);
+
+        // 간격, BYDAY, 없는 날짜(31일, 2월 29일), COUNT / UNTIL, 예외 날짜 조합
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("FREQ=DAILY;INTERVAL=3", "2024-01-02");
+        rules.put("FREQ=DAILY;INTERVAL=7", "2024-01-05");
+        rules.put("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,SA", "2024-01-04");
+        rules.put("FREQ=WEEKLY;COUNT=5", "2024-01-03");
+        rules.put("FREQ=MONTHLY", "2024-01-31");
+        rules.put("FREQ=MONTHLY;INTERVAL=2;UNTIL=20240401", "2024-01-15");
+        rules.put("FREQ=YEARLY", "2020-02-29");
+
+        Map<Long, ScheduleDto> created = new HashMap<>();
+        rules.forEach((rule, start) -> {
+            ScheduleDto schedule = scheduleService.create(createdMember, ScheduleDto.builder()
+                    .title(rule)
+                    .author("Author")
+                    .createdAt(Date.valueOf(start))
+                    .password("password")
+                    .recurrenceRule(rule)
+                    .recurrenceExceptions(List.of(Date.valueOf("2024-01-17")))
+                    .memberDto(createdMember)
+                    .build());
+            created.put(schedule.getId(), schedule);
+        });
+
+        // 날짜마다 SQL 로 고른 발생일이 RecurrenceRule 계산 결과와 같아야 함
+        SearchDto searchDto = SearchDto.builder().recordSize(100).pageSize(100).countMode(CountMode.NONE).build();
+        for (LocalDate day = LocalDate.of(2024, 1, 1); day.isBefore(LocalDate.of(2024, 5, 1)); day = day.plusDays(1)) {
+            LocalDate date = day;
+            Set<Long> expected = created.values().stream()
+                    .filter(schedule -> RecurrenceRule.parse(schedule.getRecurrenceRule()).occursOn(
+                            schedule.getCreatedAt().toLocalDate(), Set.copyOf(toLocalDates(schedule.getRecurrenceExceptions())), date))
+                    .map(ScheduleDto::getId)
+                    .collect(Collectors.toSet());
+
+            Set<Long> actual = new HashSet<>();
+            try {
+                scheduleService.findByDateSlice(Date.valueOf(date), searchDto).getContent().stream()
+                        .filter(schedule -> schedule.getOccurrenceDate() != null)
+                        .forEach(schedule -> actual.add(schedule.getId()));
+            } catch (CustomException e) {
+                // 해당 날짜에 스케줄이 없음
+            }
+            assertEquals(expected, actual, date.toString());
+        }
+    }
+
+    private static List<LocalDate> toLocalDates(List<Date> dates) {
+        return dates == null ? List.of() : dates.stream().map(Date::toLocalDate).toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.dailyschedule.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 전체에서 실행할 수 있는 SQL statement 최대 개수 (QueryBudgetExtension 이 검사)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxQueries {
+    int value();
+}
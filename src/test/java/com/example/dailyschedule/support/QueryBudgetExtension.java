@@ -0,0 +1,63 @@
+package com.example.dailyschedule.support;
+
+import com.example.dailyschedule.common.datasource.QueryStatistics;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * SQL statement 개수 상한 검사 (N+1, 중복 조회가 늘어나는 것을 테스트에서 잡기 위해)
+ * 테스트 클래스에 @RegisterExtension 으로 등록해서 사용한다.
+ * - assertMaxQueries(max, () -> service 호출) : 호출 1회의 개수 검사
+ * - 테스트 메서드의 @MaxQueries : 테스트 전체의 개수 검사
+ * 개수는 QueryCountingDataSource 를 거친 statement 실행(execute*) 기준이다.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String STATISTICS_KEY = "statistics";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(MaxQueries.class)) {
+            context.getStore(NAMESPACE).put(STATISTICS_KEY, QueryStatistics.start());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryStatistics statistics = context.getStore(NAMESPACE).remove(STATISTICS_KEY, QueryStatistics.class);
+        if (statistics == null) {
+            return;
+        }
+
+        statistics.close();
+        int max = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+        check(max, statistics, context.getDisplayName());
+    }
+
+    public <T> T assertMaxQueries(int max, ThrowingSupplier<T> call) throws Throwable {
+        try (QueryStatistics statistics = QueryStatistics.start()) {
+            T result = call.get();
+            check(max, statistics, "call");
+            return result;
+        }
+    }
+
+    public void assertMaxQueries(int max, Executable call) throws Throwable {
+        try (QueryStatistics statistics = QueryStatistics.start()) {
+            call.execute();
+            check(max, statistics, "call");
+        }
+    }
+
+    private static void check(int max, QueryStatistics statistics, String target) {
+        if (statistics.getStatementCount() > max) {
+            fail(String.format("%s executed %d SQL statements (max %d)", target, statistics.getStatementCount(), max));
+        }
+    }
+}